@@ -0,0 +1,71 @@
+package seedu.docit.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how long each command took, grouped by command word, and reports the percentiles of those times.
+ */
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Latencies> latenciesByCommand = new TreeMap<>();
+
+    /**
+     * Records that a command with the given command word took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, long nanos, boolean isSuccessful) {
+        latenciesByCommand.computeIfAbsent(commandWord, unused -> new Latencies()).add(nanos, isSuccessful);
+    }
+
+    /**
+     * Returns a table of the number of commands, failed commands and the p50, p99 and maximum latency in
+     * milliseconds for each command word.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-14s %8s %8s %10s %10s %10s%n",
+            "COMMAND", "COUNT", "FAILED", "P50(ms)", "P99(ms)", "MAX(ms)"));
+        latenciesByCommand.forEach((commandWord, latencies) -> {
+            long[] sorted = latencies.sorted();
+            report.append(String.format("%-14s %8d %8d %10.3f %10.3f %10.3f%n", commandWord, sorted.length,
+                latencies.failedCount, percentile(sorted, 50) / NANOS_PER_MILLI,
+                percentile(sorted, 99) / NANOS_PER_MILLI, sorted[sorted.length - 1] / NANOS_PER_MILLI));
+        });
+        return report.toString();
+    }
+
+    /**
+     * Returns the smallest value that at least {@code percent}% of {@code sorted} is less than or equal to.
+     */
+    static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * The latencies of the commands with one command word.
+     */
+    private static class Latencies {
+        private long[] nanos = new long[16];
+        private int count;
+        private int failedCount;
+
+        void add(long latency, boolean isSuccessful) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (!isSuccessful) {
+                failedCount++;
+            }
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
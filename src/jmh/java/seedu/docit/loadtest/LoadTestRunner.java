@@ -0,0 +1,156 @@
+package seedu.docit.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.docit.logic.Logic;
+import seedu.docit.logic.LogicManager;
+import seedu.docit.logic.commands.exceptions.CommandException;
+import seedu.docit.logic.parser.exceptions.ParseException;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.ArchivedAppointmentBook;
+import seedu.docit.model.Model;
+import seedu.docit.model.ModelManager;
+import seedu.docit.model.UserPrefs;
+import seedu.docit.storage.JournaledAddressBookStorage;
+import seedu.docit.storage.JournaledAppointmentBookStorage;
+import seedu.docit.storage.JsonArchivedAppointmentBookStorage;
+import seedu.docit.storage.JsonUserPrefsStorage;
+import seedu.docit.storage.Storage;
+import seedu.docit.storage.WriteBehindStorageManager;
+
+/**
+ * Replays a script of commands through {@code LogicManager} without the UI, and reports the latency of each
+ * command word and the time spent writing to disk.
+ * <p>
+ * Usage: {@code LoadTestRunner [--patients N] [--script FILE] [--write-script FILE] [--data-dir DIR]
+ * [--save-delay MILLIS]}. Without {@code --script}, a script is generated for {@code N} patients (1000 by default).
+ * The app starts with no data in {@code DIR}, which is a new temporary directory by default.
+ */
+public class LoadTestRunner {
+
+    private static final int DEFAULT_PATIENT_COUNT = 1000;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final TimedStorageManager timedStorage;
+    private final Storage storage;
+    private final Logic logic;
+    private final LatencyRecorder latencies = new LatencyRecorder();
+
+    /**
+     * Creates a {@code LoadTestRunner} with empty books saved in {@code dataDir}, set up the way
+     * {@code MainApp#init} sets up the app.
+     */
+    LoadTestRunner(Path dataDir, long saveDelayMillis) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataDir.resolve("addressbook.json"));
+        userPrefs.setAppointmentBookFilePath(dataDir.resolve("appointmentbook.json"));
+        userPrefs.setArchivedAppointmentBookFilePath(dataDir.resolve("archivedappointmentbook.json"));
+        userPrefs.setSaveDelayMillis(saveDelayMillis);
+
+        timedStorage = new TimedStorageManager(
+            new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.getStorageFormat()),
+            new JournaledAppointmentBookStorage(userPrefs.getAppointmentBookFilePath(), userPrefs.getStorageFormat()),
+            new JsonArchivedAppointmentBookStorage(userPrefs.getArchivedAppointmentBookFilePath(),
+                userPrefs.getArchivedStorageFormat()),
+            new JsonUserPrefsStorage(dataDir.resolve("preferences.json")));
+        storage = saveDelayMillis > 0 ? new WriteBehindStorageManager(timedStorage, saveDelayMillis) : timedStorage;
+
+        Model model = new ModelManager(new AddressBook(), new AppointmentBook(), new ArchivedAppointmentBook(),
+            userPrefs);
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Runs every command of {@code script} and then waits for all data to be written to disk.
+     */
+    void run(LoadTestScript script) throws IOException {
+        for (String command : script.getCommands()) {
+            long start = System.nanoTime();
+            boolean isSuccessful = true;
+            try {
+                logic.execute(command);
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+            }
+            latencies.record(commandWordOf(command), System.nanoTime() - start, isSuccessful);
+        }
+        storage.flush();
+    }
+
+    /**
+     * Returns the latencies of the commands run and the time spent writing to disk.
+     */
+    String report() {
+        return latencies.report()
+            + String.format("Storage: %d writes, %.3f ms in total%n", timedStorage.getWriteCount(),
+                timedStorage.getWriteNanos() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the command word of {@code command}, including its {@code pt} or {@code apmt} prefix.
+     */
+    static String commandWordOf(String command) {
+        String[] words = command.trim().split("\\s+", 3);
+        boolean isPrefixed = words[0].equals("pt") || words[0].equals("apmt");
+        return isPrefixed && words.length > 1 ? words[0] + " " + words[1] : words[0];
+    }
+
+    public static void main(String[] args) throws IOException {
+        int patientCount = DEFAULT_PATIENT_COUNT;
+        Path scriptFile = null;
+        Path writeScriptFile = null;
+        Path dataDir = null;
+        long saveDelayMillis = new UserPrefs().getSaveDelayMillis();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--patients":
+                patientCount = Integer.parseInt(args[i + 1]);
+                break;
+            case "--script":
+                scriptFile = Paths.get(args[i + 1]);
+                break;
+            case "--write-script":
+                writeScriptFile = Paths.get(args[i + 1]);
+                break;
+            case "--data-dir":
+                dataDir = Paths.get(args[i + 1]);
+                break;
+            case "--save-delay":
+                saveDelayMillis = Long.parseLong(args[i + 1]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // Logging every command would dominate the time taken by the faster commands.
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        LoadTestScript script = scriptFile != null ? LoadTestScript.read(scriptFile)
+            : LoadTestScript.generate(patientCount);
+        if (writeScriptFile != null) {
+            script.write(writeScriptFile);
+        }
+        if (dataDir == null) {
+            dataDir = Files.createTempDirectory("docit-loadtest");
+        }
+
+        LoadTestRunner runner = new LoadTestRunner(dataDir, saveDelayMillis);
+        long start = System.nanoTime();
+        runner.run(script);
+        double elapsedMillis = (System.nanoTime() - start) / NANOS_PER_MILLI;
+
+        System.out.print(runner.report());
+        System.out.printf("Ran %d commands in %.3f ms (%.1f commands/s), data in %s%n", script.getCommands().size(),
+            elapsedMillis, script.getCommands().size() / (elapsedMillis / 1000), dataDir);
+        // The model's auto-archive scheduler would otherwise keep the JVM running.
+        System.exit(0);
+    }
+}
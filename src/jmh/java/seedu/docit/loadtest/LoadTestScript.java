@@ -0,0 +1,115 @@
+package seedu.docit.loadtest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.docit.logic.parser.ParserUtil.INPUT_DATE_TIME_FORMATTER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * A script of commands to replay through the app, one command per line. Blank lines and lines starting with
+ * {@code #} are ignored.
+ */
+public class LoadTestScript {
+
+    /** First day of the generated appointments, fixed so that the same script is generated on any day. */
+    static final LocalDate FIRST_APPOINTMENT_DAY = LocalDate.of(2099, 1, 1);
+    static final int DAYS_OF_APPOINTMENTS = 360;
+
+    private static final long SEED = 42;
+    private static final String[] MEDICINES = {"Penicillin", "Paracetamol", "Insulin", "Ibuprofen", "Metformin"};
+
+    private final List<String> commands;
+
+    private LoadTestScript(List<String> commands) {
+        this.commands = commands;
+    }
+
+    public List<String> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the script in {@code scriptFile}.
+     */
+    public static LoadTestScript read(Path scriptFile) throws IOException {
+        return new LoadTestScript(Files.readAllLines(scriptFile, UTF_8).stream()
+            .map(String::trim)
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Writes the script to {@code scriptFile}, replacing the file if it exists.
+     */
+    public void write(Path scriptFile) throws IOException {
+        Files.write(scriptFile, commands, UTF_8);
+    }
+
+    /**
+     * Returns a script that adds {@code patientCount} patients and {@link SyntheticDataUtil#APPOINTMENTS_PER_PATIENT}
+     * appointments for each of them to an empty app, then runs a mix of {@code patientCount} prescription, edit,
+     * find and list commands. The same script is generated for the same {@code patientCount}.
+     */
+    public static LoadTestScript generate(int patientCount) {
+        Random random = new Random(SEED);
+        List<String> commands = new ArrayList<>();
+
+        Patient[] patients = SyntheticDataUtil.getPatients(patientCount);
+        Map<Patient, Integer> indexOfPatient = new IdentityHashMap<>();
+        for (int i = 0; i < patients.length; i++) {
+            Patient patient = patients[i];
+            commands.add("pt add n/" + patient.getName().fullName + " p/" + patient.getPhone().value
+                + " e/" + patient.getEmail().value + " a/" + patient.getAddress().value);
+            indexOfPatient.put(patient, i + 1);
+        }
+
+        Appointment[] appointments = SyntheticDataUtil.getAppointments(patients,
+            FIRST_APPOINTMENT_DAY.atStartOfDay(), DAYS_OF_APPOINTMENTS);
+        for (Appointment appointment : appointments) {
+            commands.add("apmt add i/" + indexOfPatient.get(appointment.getPatient())
+                + " d/" + appointment.getDatetime().format(INPUT_DATE_TIME_FORMATTER));
+        }
+
+        // Appointments are listed in the order they were added, and each is given at most one prescription.
+        int nextAppointmentIndex = 1;
+        for (int i = 0; i < patientCount; i++) {
+            int choice = random.nextInt(10);
+            if (choice < 4) {
+                commands.add("apmt pa " + nextAppointmentIndex + " n/" + MEDICINES[random.nextInt(MEDICINES.length)]
+                    + " v/400 ml d/2 times a week");
+                nextAppointmentIndex += 1 + random.nextInt(SyntheticDataUtil.APPOINTMENTS_PER_PATIENT);
+            } else if (choice < 6) {
+                commands.add("pt edit " + (1 + random.nextInt(patientCount)) + " p/" + (90000000 + i));
+            } else if (choice < 8) {
+                commands.add("pt find " + firstWordOf(patients[random.nextInt(patientCount)]));
+                commands.add("pt list");
+            } else if (choice < 9) {
+                commands.add("pt search " + firstWordOf(patients[random.nextInt(patientCount)]).substring(1));
+                commands.add("pt list");
+            } else {
+                LocalDate from = FIRST_APPOINTMENT_DAY.plusDays(random.nextInt(DAYS_OF_APPOINTMENTS));
+                commands.add("apmt list " + from + " " + from.plusDays(6));
+                commands.add("apmt list");
+            }
+        }
+        return new LoadTestScript(commands);
+    }
+
+    private static String firstWordOf(Patient patient) {
+        String name = patient.getName().fullName;
+        return name.substring(0, name.indexOf(' '));
+    }
+}
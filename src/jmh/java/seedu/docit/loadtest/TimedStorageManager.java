@@ -0,0 +1,82 @@
+package seedu.docit.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.ReadOnlyAppointmentBook;
+import seedu.docit.storage.AddressBookStorage;
+import seedu.docit.storage.AppointmentBookStorage;
+import seedu.docit.storage.ArchivedAppointmentBookStorage;
+import seedu.docit.storage.StorageManager;
+import seedu.docit.storage.UserPrefsStorage;
+
+/**
+ * A {@code StorageManager} that adds up the time spent writing books to disk. Writes may happen on any thread.
+ */
+public class TimedStorageManager extends StorageManager {
+
+    private final LongAdder writeNanos = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+
+    /**
+     * Creates a {@code TimedStorageManager} with the given {@code AddressBookStorage}, {@code AppointmentBookStorage},
+     * {@code ArchivedAppointmentBookStorage} and {@code UserPrefStorage}.
+     */
+    public TimedStorageManager(AddressBookStorage addressBookStorage, AppointmentBookStorage appointmentBookStorage,
+            ArchivedAppointmentBookStorage archivedAppointmentBookStorage, UserPrefsStorage userPrefsStorage) {
+        super(addressBookStorage, appointmentBookStorage, archivedAppointmentBookStorage, userPrefsStorage);
+    }
+
+    /**
+     * Returns the total time spent writing books, in nanoseconds.
+     */
+    public long getWriteNanos() {
+        return writeNanos.sum();
+    }
+
+    /**
+     * Returns the number of books written.
+     */
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveAddressBook(addressBook, filePath);
+        } finally {
+            recordWrite(start);
+        }
+    }
+
+    @Override
+    public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook,
+            Path filePath) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveAppointmentBook(appointmentBook, addressBook, filePath);
+        } finally {
+            recordWrite(start);
+        }
+    }
+
+    @Override
+    public void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
+            ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.saveArchivedAppointmentBook(archivedAppointmentBook, addressBook, filePath);
+        } finally {
+            recordWrite(start);
+        }
+    }
+
+    private void recordWrite(long start) {
+        writeNanos.add(System.nanoTime() - start);
+        writeCount.increment();
+    }
+}
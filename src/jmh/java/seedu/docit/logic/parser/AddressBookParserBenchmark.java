@@ -0,0 +1,40 @@
+package seedu.docit.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.logic.commands.Command;
+import seedu.docit.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a line of user input into a command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "pt add n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 m/diabetes",
+        "pt edit 1 p/91234567 e/alex@example.com",
+        "pt find alex yeoh",
+        "apmt add i/1 d/2022-10-05 1600",
+        "apmt list",
+        "help"
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
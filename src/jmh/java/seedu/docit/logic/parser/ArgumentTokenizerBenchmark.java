@@ -0,0 +1,55 @@
+package seedu.docit.logic.parser;
+
+import static seedu.docit.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.docit.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.docit.logic.parser.CliSyntax.PREFIX_MEDICAL;
+import static seedu.docit.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.docit.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures splitting the arguments of an add patient command by their prefixes, for growing numbers of medical
+ * history entries, against the tokenizer that searched the arguments once per prefix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int medicalEntries;
+
+    private String argsString;
+
+    @Setup
+    public void createArguments() {
+        StringBuilder args = new StringBuilder(" n/Alex Yeoh p/87438807 e/alexyeoh@example.com"
+            + " a/Blk 30 Geylang Street 29, #06-40");
+        for (int i = 0; i < medicalEntries; i++) {
+            args.append(" m/condition ").append(i);
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_MEDICAL);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLegacy() {
+        return LegacyArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_MEDICAL);
+    }
+}
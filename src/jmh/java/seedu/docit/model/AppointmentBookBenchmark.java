@@ -0,0 +1,58 @@
+package seedu.docit.model;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.Phone;
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * Measures updating the appointments of a patient whose details were edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppointmentBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AppointmentBook appointmentBook;
+    private Patient currentPatient;
+    private Patient otherPatient;
+
+    @Setup
+    public void createAppointmentBook() {
+        Patient[] patients = SyntheticDataUtil.getPatients(patientCount);
+        Appointment[] appointments = SyntheticDataUtil.getAppointments(patients, LocalDateTime.of(2040, 1, 1, 0, 0),
+            365);
+        appointmentBook = SyntheticDataUtil.getAppointmentBook(appointments);
+        currentPatient = patients[patientCount / 2];
+        otherPatient = new Patient(currentPatient.getName(), new Phone("99999999"), currentPatient.getEmail(),
+            currentPatient.getAddress(), currentPatient.getMedicalHistory());
+    }
+
+    /**
+     * Edits the phone number of a patient with {@link SyntheticDataUtil#APPOINTMENTS_PER_PATIENT} appointments,
+     * swapping between two versions of the patient on every call.
+     */
+    @Benchmark
+    public AppointmentBook updatePatient() {
+        appointmentBook.updatePatient(currentPatient, otherPatient);
+        Patient updatedPatient = otherPatient;
+        otherPatient = currentPatient;
+        currentPatient = updatedPatient;
+        return appointmentBook;
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.docit.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.storage.JsonAdaptedMedicalEntry;
+import seedu.docit.storage.JsonAdaptedPrescription;
+
+/**
+ * Measures the heap kept by prescriptions and medical entries loaded from json, against the prescriptions and medical
+ * entries as they were before their repeated values were interned. Those kept their own copy of every string and their
+ * own date formatter.
+ * <p>
+ * Usage: {@code HeapFootprintBenchmark [--count N]}, where {@code N} is the number of prescriptions and of medical
+ * entries, 200000 by default. Run with a fixed heap size, e.g. {@code -Xms1g -Xmx1g}, for steadier results.
+ */
+public class HeapFootprintBenchmark {
+
+    private static final int DEFAULT_COUNT = 200_000;
+    private static final long SEED = 42;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static final String[] MEDICINES = {"Paracetamol", "Ibuprofen", "Amoxicillin", "Metformin", "Insulin",
+        "Lisinopril", "Amlodipine", "Omeprazole", "Salbutamol", "Cetirizine", "Loratadine", "Simvastatin",
+        "Atorvastatin", "Prednisolone", "Diclofenac", "Losartan", "Aspirin", "Clopidogrel", "Gliclazide", "Codeine"};
+    private static final String[] VOLUMES = {"1 tablet", "2 tablets", "5 ml", "10 ml", "1 capsule", "2 capsules",
+        "1 puff", "1 jab"};
+    private static final String[] DURATIONS = {"3 days", "5 days", "1 week", "2 weeks", "1 month", "daily",
+        "when needed", "3 times a day"};
+    private static final String[] CONDITIONS = {"diabetes", "scoliosis", "high blood pressure", "anxiety", "asthma",
+        "eczema", "stage 1a cancer", "migraine", "high cholesterol", "gout", "arthritis", "hay fever"};
+    private static final String[] DATES = {"1 Oct 1999", "2 May 2000", "5 Sep 2005", "8 Aug 2010", "8 Aug 2017",
+        "3 Mar 2021"};
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws IllegalValueException {
+        int count = DEFAULT_COUNT;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].equals("--count")) {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            count = Integer.parseInt(args[i + 1]);
+        }
+
+        Random legacyRandom = new Random(SEED);
+        long legacyPrescriptions = measure(count, LegacyPrescription[]::new, () -> new LegacyPrescription(
+            pick(legacyRandom, MEDICINES), pick(legacyRandom, VOLUMES), pick(legacyRandom, DURATIONS)));
+        Random random = new Random(SEED);
+        long prescriptions = measure(count, Object[]::new, () -> {
+            String medicine = pick(random, MEDICINES);
+            String volume = pick(random, VOLUMES);
+            return new JsonAdaptedPrescription(volume, medicine, pick(random, DURATIONS)).toModelType();
+        });
+        System.out.print(report("Prescriptions", count, legacyPrescriptions, prescriptions));
+
+        Random legacyEntryRandom = new Random(SEED);
+        long legacyEntries = measure(count, LegacyMedicalEntry[]::new, () -> new LegacyMedicalEntry(
+            pick(legacyEntryRandom, CONDITIONS), pick(legacyEntryRandom, DATES)));
+        Random entryRandom = new Random(SEED);
+        long entries = measure(count, Object[]::new, () -> new JsonAdaptedMedicalEntry(
+            pick(entryRandom, CONDITIONS), pick(entryRandom, DATES)).toModelType());
+        System.out.print(report("Medical entries", count, legacyEntries, entries));
+    }
+
+    /**
+     * Returns the bytes of heap kept by {@code count} objects made by {@code create}.
+     */
+    private static <T> long measure(int count, IntFunction<T[]> newArray, Factory<T> create)
+        throws IllegalValueException {
+        T[] objects = newArray.apply(count);
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < count; i++) {
+            objects[i] = create.create();
+        }
+        long after = usedHeapAfterGc();
+        // Keeps the objects reachable until the heap has been measured.
+        if (objects[count - 1] == null) {
+            throw new AssertionError();
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            MEMORY.gc();
+            used = Math.min(used, MEMORY.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    /**
+     * Returns a new copy of a random value of {@code values}, as parsing json makes a new string for every value.
+     */
+    private static String pick(Random random, String[] values) {
+        return new String(values[random.nextInt(values.length)]);
+    }
+
+    private static String report(String name, int count, long legacyBytes, long bytes) {
+        return String.format("%s: %d%n", name, count)
+            + String.format("  before interning: %8.2f MB (%.1f bytes each)%n", legacyBytes / BYTES_PER_MEGABYTE,
+                (double) legacyBytes / count)
+            + String.format("  after interning:  %8.2f MB (%.1f bytes each)%n", bytes / BYTES_PER_MEGABYTE,
+                (double) bytes / count)
+            + String.format("  saved:            %8.2f MB (%.0f%%)%n", (legacyBytes - bytes) / BYTES_PER_MEGABYTE,
+                100.0 * (legacyBytes - bytes) / legacyBytes);
+    }
+
+    @FunctionalInterface
+    private interface Factory<T> {
+        T create() throws IllegalValueException;
+    }
+
+    /**
+     * The fields of a prescription as it was before its values were interned.
+     */
+    private static class LegacyPrescription {
+        private final String medicine;
+        private final String volume;
+        private final String duration;
+
+        LegacyPrescription(String medicine, String volume, String duration) {
+            this.medicine = medicine.toLowerCase();
+            this.volume = volume.toLowerCase();
+            this.duration = duration.toLowerCase();
+        }
+    }
+
+    /**
+     * The fields of a medical entry as it was before its description was interned, with a formatter of its own.
+     */
+    private static class LegacyMedicalEntry {
+        private final String description;
+        private final LocalDate dateOfEntry;
+        private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM uuuu");
+
+        LegacyMedicalEntry(String description, String date) {
+            this.description = description;
+            this.dateOfEntry = LocalDate.parse(date, formatter);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.docit.model;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * Measures archiving past appointments when about half of the appointment book is in the past.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelManagerBenchmark {
+
+    private static final int DAYS_OF_APPOINTMENTS = 360;
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private ModelManager modelManager;
+    private AppointmentBook appointmentBook;
+
+    @Setup
+    public void createModel() {
+        Patient[] patients = SyntheticDataUtil.getPatients(patientCount);
+        Appointment[] appointments = SyntheticDataUtil.getAppointments(patients,
+            LocalDate.now(Appointment.CLINIC_ZONE).minusDays(DAYS_OF_APPOINTMENTS / 2).atStartOfDay(),
+            DAYS_OF_APPOINTMENTS);
+        appointmentBook = SyntheticDataUtil.getAppointmentBook(appointments);
+        modelManager = new ModelManager(SyntheticDataUtil.getAddressBook(patients), new AppointmentBook(),
+            new AppointmentBook(), new UserPrefs());
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreAppointments() {
+        modelManager.setAppointmentBook(appointmentBook);
+        modelManager.setArchivedAppointmentBook(new AppointmentBook());
+    }
+
+    @Benchmark
+    public ModelManager archivePastAppointments() {
+        modelManager.archivePastAppointments();
+        return modelManager;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.docit.model.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.util.SampleDataUtil;
+
+/**
+ * Compares sorting appointments by {@link Appointment#compareTo(Appointment)}, which reads the clock on every
+ * comparison, with sorting by {@link Appointment#orderOn(LocalDate)}, which reads it once per sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AppointmentSortBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Appointment> appointments;
+    private List<Appointment> toSort;
+
+    /**
+     * Creates {@code size} appointments in random order, spread over the two weeks around today.
+     */
+    @Setup
+    public void createAppointments() {
+        Patient[] patients = SampleDataUtil.getSamplePatients();
+        LocalDateTime start = LocalDate.now(Appointment.CLINIC_ZONE).minusDays(7).atStartOfDay();
+        Random random = new Random(42);
+        appointments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            appointments.add(new Appointment(patients[random.nextInt(patients.length)],
+                start.plusMinutes(random.nextInt(14 * 24 * 60))));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyAppointments() {
+        toSort = new ArrayList<>(appointments);
+    }
+
+    @Benchmark
+    public List<Appointment> sortByCompareTo() {
+        toSort.sort(Appointment::compareTo);
+        return toSort;
+    }
+
+    @Benchmark
+    public List<Appointment> sortByOrderOnToday() {
+        toSort.sort(Appointment.orderOn(LocalDate.now(Appointment.CLINIC_ZONE)));
+        return toSort;
+    }
+}
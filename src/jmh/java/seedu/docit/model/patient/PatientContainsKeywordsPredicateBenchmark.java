@@ -0,0 +1,47 @@
+package seedu.docit.model.patient;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * Measures testing every patient against the keywords of a find command, as filtering the patient list does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PatientContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private Patient[] patients;
+    private PatientContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void createPatients() {
+        patients = SyntheticDataUtil.getPatients(patientCount);
+        predicate = new PatientContainsKeywordsPredicate(Arrays.asList("alex", "Tan", "mei"));
+    }
+
+    @Benchmark
+    public int testAllPatients() {
+        int matches = 0;
+        for (Patient patient : patients) {
+            if (predicate.test(patient)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.docit.model.patient;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * Measures filling a {@code UniquePatientList} and checking whether it contains a patient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePatientListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private Patient[] patients;
+    private UniquePatientList filledList;
+    private Patient presentPatient;
+    private Patient absentPatient;
+
+    @Setup
+    public void createPatients() {
+        Patient[] allPatients = SyntheticDataUtil.getPatients(patientCount + 1);
+        patients = new Patient[patientCount];
+        System.arraycopy(allPatients, 0, patients, 0, patientCount);
+        filledList = new UniquePatientList();
+        for (Patient patient : patients) {
+            filledList.add(patient);
+        }
+        presentPatient = patients[patientCount / 2];
+        absentPatient = allPatients[patientCount];
+    }
+
+    /**
+     * Adds all {@code patientCount} patients to an empty list.
+     */
+    @Benchmark
+    public UniquePatientList addAll() {
+        UniquePatientList list = new UniquePatientList();
+        for (Patient patient : patients) {
+            list.add(patient);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresentPatient() {
+        return filledList.contains(presentPatient);
+    }
+
+    @Benchmark
+    public boolean containsAbsentPatient() {
+        return filledList.contains(absentPatient);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.docit.model.util;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.Address;
+import seedu.docit.model.patient.Email;
+import seedu.docit.model.patient.MedicalHistory;
+import seedu.docit.model.patient.Name;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.Phone;
+
+/**
+ * Contains utility methods for populating {@code AddressBook} and {@code AppointmentBook} with synthetic data of
+ * realistic clinic sizes. The data only depends on the sizes asked for, so every run sees the same data.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    public static final int APPOINTMENTS_PER_PATIENT = 10;
+
+    private static final long SEED = 42;
+    private static final int FIRST_HOUR = 9;
+    private static final int SLOTS_PER_DAY = 8 * 4;
+    private static final int MINUTES_PER_SLOT = 15;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei",
+        "Siti", "Kumar", "Mei", "Aaron", "Nur", "Jun", "Priya", "Daniel", "Hui", "Ahmad", "Grace", "Ravi", "Ling"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Goh", "Chua", "Rahman", "Pillai", "Koh", "Teo", "Ong", "Lee", "Nair", "Chan"};
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens", "Ang Mo Kio Street",
+        "Tampines Street", "Aljunied Street", "Bedok North Road", "Jurong West Street", "Yishun Ring Road"};
+    private static final String[] CONDITIONS = {"diabetes", "scoliosis", "high blood pressure", "anxiety", "asthma",
+        "eczema", "stage 1a cancer", "migraine"};
+
+    /**
+     * Returns {@code count} patients with distinct names. About a third of them have a medical history.
+     */
+    public static Patient[] getPatients(int count) {
+        Random random = new Random(SEED);
+        Patient[] patients = new Patient[count];
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            MedicalHistory medicalHistory = random.nextInt(3) == 0
+                ? MedicalHistory.generate(CONDITIONS[random.nextInt(CONDITIONS.length)], "1 Oct 1999")
+                : MedicalHistory.EMPTY_MEDICAL_HISTORY;
+            patients[i] = new Patient(new Name(firstName + " " + lastName + " " + lettersOf(i)),
+                new Phone(String.valueOf(80000000 + i)),
+                new Email(firstName.toLowerCase() + i + "@example.com"),
+                addressOf(random), medicalHistory);
+        }
+        return patients;
+    }
+
+    /**
+     * Returns {@link #APPOINTMENTS_PER_PATIENT} appointments for each of {@code patients}, in random order.
+     * Each patient's appointments fall on different days of the {@code days} days from {@code from}, in 15-minute
+     * slots of clinic hours.
+     */
+    public static Appointment[] getAppointments(Patient[] patients, LocalDateTime from, int days) {
+        if (days < APPOINTMENTS_PER_PATIENT) {
+            throw new IllegalArgumentException("Appointments must be spread over at least "
+                + APPOINTMENTS_PER_PATIENT + " days.");
+        }
+        Random random = new Random(SEED);
+        LocalDateTime firstSlot = from.toLocalDate().atTime(FIRST_HOUR, 0);
+        int daysPerAppointment = days / APPOINTMENTS_PER_PATIENT;
+        Appointment[] appointments = new Appointment[patients.length * APPOINTMENTS_PER_PATIENT];
+        int count = 0;
+        for (Patient patient : patients) {
+            for (int i = 0; i < APPOINTMENTS_PER_PATIENT; i++) {
+                int day = i * daysPerAppointment + random.nextInt(daysPerAppointment);
+                int slot = random.nextInt(SLOTS_PER_DAY);
+                appointments[count++] = new Appointment(patient,
+                    firstSlot.plusDays(day).plusMinutes((long) slot * MINUTES_PER_SLOT));
+            }
+        }
+        for (int i = appointments.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Appointment swapped = appointments[i];
+            appointments[i] = appointments[j];
+            appointments[j] = swapped;
+        }
+        return appointments;
+    }
+
+    public static AddressBook getAddressBook(Patient[] patients) {
+        AddressBook addressBook = new AddressBook();
+        for (Patient patient : patients) {
+            addressBook.addPatient(patient);
+        }
+        return addressBook;
+    }
+
+    public static AppointmentBook getAppointmentBook(Appointment[] appointments) {
+        AppointmentBook appointmentBook = new AppointmentBook();
+        for (Appointment appointment : appointments) {
+            appointmentBook.addAppointment(appointment);
+        }
+        return appointmentBook;
+    }
+
+    private static Address addressOf(Random random) {
+        return new Address("Blk " + (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)]
+            + " " + (1 + random.nextInt(99)) + ", #" + (1 + random.nextInt(20)) + "-" + (1 + random.nextInt(99)));
+    }
+
+    /**
+     * Returns {@code number} written with the letters A to Z as digits, so that names stay alphabetic.
+     */
+    private static String lettersOf(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('A' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.reverse().toString();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.docit.storage;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.docit.commons.util.JsonUtil;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.util.SyntheticDataUtil;
+
+/**
+ * Measures converting the address book and appointment book to json and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializableBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AddressBook addressBook;
+    private AppointmentBook appointmentBook;
+
+    @Setup
+    public void createBooks() {
+        Patient[] patients = SyntheticDataUtil.getPatients(patientCount);
+        Appointment[] appointments = SyntheticDataUtil.getAppointments(patients, LocalDateTime.of(2040, 1, 1, 0, 0),
+            365);
+        addressBook = SyntheticDataUtil.getAddressBook(patients);
+        appointmentBook = SyntheticDataUtil.getAppointmentBook(appointments);
+    }
+
+    @Benchmark
+    public AddressBook addressBookRoundTrip() throws Exception {
+        String json = JsonUtil.toSingleLineJsonString(new JsonSerializableAddressBook(addressBook));
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public AppointmentBook appointmentBookRoundTrip() throws Exception {
+        String json = JsonUtil.toSingleLineJsonString(new JsonSerializableAppointmentBook(appointmentBook,
+            addressBook));
+        return JsonUtil.fromJsonString(json, JsonSerializableAppointmentBook.class).toModelType(addressBook);
+    }
+}
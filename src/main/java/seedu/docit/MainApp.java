@@ -9,6 +9,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.docit.commons.core.Config;
 import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.MetricsCenter;
 import seedu.docit.commons.core.Version;
 import seedu.docit.commons.exceptions.DataConversionException;
 import seedu.docit.commons.util.ConfigUtil;
@@ -19,6 +20,7 @@ import seedu.docit.model.AddressBook;
 import seedu.docit.model.AppointmentBook;
 import seedu.docit.model.ArchivedAppointmentBook;
 import seedu.docit.model.Model;
+import seedu.docit.model.ModelExecutor;
 import seedu.docit.model.ModelManager;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.ReadOnlyAppointmentBook;
@@ -28,13 +30,14 @@ import seedu.docit.model.util.SampleDataUtil;
 import seedu.docit.storage.AddressBookStorage;
 import seedu.docit.storage.AppointmentBookStorage;
 import seedu.docit.storage.ArchivedAppointmentBookStorage;
-import seedu.docit.storage.JsonAddressBookStorage;
-import seedu.docit.storage.JsonAppointmentBookStorage;
+import seedu.docit.storage.JournaledAddressBookStorage;
+import seedu.docit.storage.JournaledAppointmentBookStorage;
 import seedu.docit.storage.JsonArchivedAppointmentBookStorage;
 import seedu.docit.storage.JsonUserPrefsStorage;
 import seedu.docit.storage.Storage;
 import seedu.docit.storage.StorageManager;
 import seedu.docit.storage.UserPrefsStorage;
+import seedu.docit.storage.WriteBehindStorageManager;
 import seedu.docit.ui.Ui;
 import seedu.docit.ui.UiManager;
 
@@ -51,8 +54,14 @@ public class MainApp extends Application {
     protected Logic logic;
     protected Storage storage;
     protected Model model;
+    protected ModelExecutor modelExecutor;
     protected Config config;
 
+    // Whether each book of the model was read from storage, rather than replaced by sample or empty data.
+    private boolean isAddressBookLoaded;
+    private boolean isAppointmentBookLoaded;
+    private boolean isArchivedAppointmentBookLoaded;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Doc'it ]===========================");
@@ -63,21 +72,29 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage =
+            new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.getStorageFormat());
         AppointmentBookStorage appointmentBookStorage =
-            new JsonAppointmentBookStorage(userPrefs.getAppointmentBookFilePath());
+            new JournaledAppointmentBookStorage(userPrefs.getAppointmentBookFilePath(), userPrefs.getStorageFormat());
         ArchivedAppointmentBookStorage archivedAppointmentBookStorage =
-                new JsonArchivedAppointmentBookStorage(userPrefs.getArchivedAppointmentBookFilePath());
+                new JsonArchivedAppointmentBookStorage(userPrefs.getArchivedAppointmentBookFilePath(),
+                        userPrefs.getArchivedStorageFormat());
         storage = new StorageManager(addressBookStorage, appointmentBookStorage,
                 archivedAppointmentBookStorage, userPrefsStorage);
+        if (userPrefs.getSaveDelayMillis() > 0) {
+            storage = new WriteBehindStorageManager(storage, userPrefs.getSaveDelayMillis());
+        }
 
         initLogging(config);
+        MetricsCenter.init(config);
 
         model = initModelManager(storage, userPrefs);
+        modelExecutor = new ModelExecutor();
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, isAddressBookLoaded, isAppointmentBookLoaded,
+                isArchivedAppointmentBookLoaded);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, modelExecutor);
     }
 
     /**
@@ -98,6 +115,7 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isAddressBookLoaded = addressBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
@@ -113,6 +131,7 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample AppointmentBook");
             }
             initialAppointmentData = appointmentBookOptional.orElseGet(SampleDataUtil::getSampleAppointmentBook);
+            isAppointmentBookLoaded = appointmentBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AppointmentBook");
             initialAppointmentData = new AppointmentBook();
@@ -129,6 +148,7 @@ public class MainApp extends Application {
             }
             initialArchivedAppointmentData = archivedAppointmentBookOptional.orElseGet(
                     SampleDataUtil::getSampleArchivedAppointmentBook);
+            isArchivedAppointmentBookLoaded = archivedAppointmentBookOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AppointmentBook");
             initialArchivedAppointmentData = new ArchivedAppointmentBook();
@@ -137,7 +157,9 @@ public class MainApp extends Application {
             initialArchivedAppointmentData = new ArchivedAppointmentBook();
         }
 
-        return new ModelManager(initialData, initialAppointmentData, initialArchivedAppointmentData, userPrefs);
+        // The books were read for the model alone, so it keeps them rather than holding a copy of each.
+        return ModelManager.ofOwnedBooks(initialData, initialAppointmentData, initialArchivedAppointmentData,
+                userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -214,15 +236,26 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Doc'it " + MainApp.VERSION);
         ui.start(primaryStage);
+        // Commands change the model on the model thread, so archiving does too.
+        modelExecutor.execute(() -> model.startAutoArchive(modelExecutor));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Doc'it ] =============================");
+        modelExecutor.execute(model::stopAutoArchive);
+        // Lets the commands already entered finish, after which nothing changes the model.
+        modelExecutor.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        MetricsCenter.stop();
     }
 }
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -57,6 +77,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMetrics file Location : " + metricsFilePath);
+        sb.append("\nMetrics dump interval (seconds) : " + metricsDumpIntervalSeconds);
         return sb.toString();
     }
 
@@ -0,0 +1,104 @@
+package seedu.docit.commons.core;
+
+import static seedu.docit.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values that any number of threads can record into without locking.
+ * <p>
+ * Values are counted in buckets that split each power of two into {@code 2^SUB_BUCKET_BITS} equal parts, so the
+ * percentiles reported are at most 12.5% above the true values. Values below {@code 2^SUB_BUCKET_BITS} are exact.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one occurrence of {@code value}.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, "Histogram values cannot be negative.");
+        bucketCounts.incrementAndGet(bucketOf(value));
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += bucketCounts.get(i);
+        }
+        return count;
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns a value that at least {@code percent}% of the recorded values are less than or equal to, or 0 if no
+     * values were recorded. The value is at most 12.5% above the smallest such recorded value.
+     */
+    public long getPercentile(double percent) {
+        checkArgument(percent >= 0 && percent <= 100, "Percentile must be between 0 and 100.");
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket that counts {@code value}.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted by {@code bucket}.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowestValue = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowestValue + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.docit.commons.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.docit.commons.util.FileUtil;
+import seedu.docit.commons.util.StringUtil;
+
+/**
+ * Collects the metrics of the app in named {@link Histogram}s, and reports them on request and to the metrics file
+ * named in the {@link Config}.<br>
+ * Time metrics are recorded in nanoseconds and reported in milliseconds. Size metrics are recorded and reported in
+ * bytes. Metrics can be recorded from any thread.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String TIME_HEADER_FORMAT = "%-48s %8s %10s %10s %10s%n";
+    private static final String TIME_ROW_FORMAT = "%-48s %8d %10.2f %10.2f %10.2f%n";
+    private static final String SIZE_HEADER_FORMAT = "%-48s %8s %10s %10s %12s%n";
+    private static final String SIZE_ROW_FORMAT = "%-48s %8d %10d %10d %12d%n";
+
+    private static final Map<String, Histogram> timeMetrics = new ConcurrentSkipListMap<>();
+    private static final Map<String, Histogram> sizeMetrics = new ConcurrentSkipListMap<>();
+    private static Path metricsFilePath;
+    private static ScheduledExecutorService dumpScheduler;
+
+    /**
+     * Starts writing the metrics to the metrics file specified in the {@code config} object, every
+     * {@code metricsDumpIntervalSeconds} seconds. Metrics are not written periodically if the interval is 0.
+     */
+    public static synchronized void init(Config config) {
+        stopDumps();
+        metricsFilePath = config.getMetricsFilePath();
+        long interval = config.getMetricsDumpIntervalSeconds();
+        if (interval <= 0) {
+            return;
+        }
+
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpScheduler.scheduleWithFixedDelay(MetricsCenter::dump, interval, interval, TimeUnit.SECONDS);
+        logger.info("Writing metrics to " + metricsFilePath + " every " + interval + " seconds");
+    }
+
+    /**
+     * Stops the periodic writes started by {@link #init(Config)} and writes the metrics to the metrics file one last
+     * time.
+     */
+    public static synchronized void stop() {
+        stopDumps();
+        dump();
+    }
+
+    /**
+     * Records that the operation {@code name} took {@code nanos} nanoseconds.
+     */
+    public static void recordTime(String name, long nanos) {
+        timeMetrics.computeIfAbsent(name, unused -> new Histogram()).record(Math.max(nanos, 0));
+    }
+
+    /**
+     * Records that the operation {@code name} handled {@code bytes} bytes.
+     */
+    public static void recordSize(String name, long bytes) {
+        sizeMetrics.computeIfAbsent(name, unused -> new Histogram()).record(bytes);
+    }
+
+    /**
+     * Returns a table of the metrics recorded so far, sorted by name.
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(TIME_HEADER_FORMAT, "Time (ms)", "count", "p50", "p99", "max"));
+        timeMetrics.forEach((name, histogram) -> sb.append(String.format(TIME_ROW_FORMAT, name,
+                histogram.getCount(), toMillis(histogram.getPercentile(50)),
+                toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax()))));
+        sb.append(String.format(SIZE_HEADER_FORMAT, "Size (bytes)", "count", "p50", "max", "total"));
+        sizeMetrics.forEach((name, histogram) -> sb.append(String.format(SIZE_ROW_FORMAT, name,
+                histogram.getCount(), histogram.getPercentile(50), histogram.getMax(), histogram.getSum())));
+        return sb.toString();
+    }
+
+    /**
+     * Discards the metrics recorded so far.
+     */
+    public static void reset() {
+        timeMetrics.clear();
+        sizeMetrics.clear();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static void stopDumps() {
+        if (dumpScheduler != null) {
+            dumpScheduler.shutdownNow();
+            dumpScheduler = null;
+        }
+    }
+
+    /**
+     * Overwrites the metrics file with the current report.
+     */
+    private static void dump() {
+        if (metricsFilePath == null) {
+            return;
+        }
+        try {
+            FileUtil.createIfMissing(metricsFilePath);
+            FileUtil.writeToFile(metricsFilePath, report());
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + metricsFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.docit.commons.core;
+
+/**
+ * Formats in which data files can be written. A file in any of these formats can be read without knowing the
+ * format it was written in.
+ */
+public enum StorageFormat {
+    /** Indented json that is easy to read and edit by hand. */
+    PRETTY,
+    /** Json without whitespace between values. */
+    COMPACT,
+    /** Compact json compressed with gzip. */
+    GZIP
+}
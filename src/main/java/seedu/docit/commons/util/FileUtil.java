@@ -1,10 +1,17 @@
 package seedu.docit.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import seedu.docit.commons.core.MetricsCenter;
 
 /**
  * Writes and reads files
@@ -12,6 +19,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +89,69 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file such that the file holds either its old or its new content, even if the app or
+     * machine stops partway through. The content is first written and synced to a temporary file next to the file,
+     * which then replaces the file. The old content of the file, if any, is kept in the file returned by
+     * {@link #getBackupPath(Path)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but writes the given bytes as they are.
+     */
+    public static void writeToFileAtomically(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        // A crash between the two moves leaves only the backup, which readers fall back to.
+        if (isFileExists(file) && Files.size(file) > 0) {
+            move(file, getBackupPath(file));
+        }
+        move(tempFile, file);
+        syncParentDir(file);
+        MetricsCenter.recordSize("write " + file.getFileName(), content.length);
+    }
+
+    /**
+     * Returns the path of the file that holds the previous content of {@code file} after
+     * {@link #writeToFileAtomically(Path, String)}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the directory entry of {@code file} to disk where the platform allows it, so that a rename survives
+     * a power cut.
+     */
+    private static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened for syncing on some platforms, such as Windows.
+        }
+    }
+
 }
@@ -0,0 +1,41 @@
+package seedu.docit.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares a single instance between equal values, so that a value repeated across many records, such as the medicine
+ * of a prescription, is kept in memory once.
+ * <p>
+ * Values are held weakly, so a value that is no longer used elsewhere can still be garbage collected. Values must be
+ * immutable. Each distinct value costs a map entry, so only values that are expected to repeat are worth interning.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the instance shared by all values equal to {@code value}, which is {@code value} itself if no equal
+     * value is in use.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            return instance;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of distinct values in use.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
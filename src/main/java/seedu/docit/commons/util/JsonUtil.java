@@ -2,16 +2,26 @@ package seedu.docit.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,7 +31,9 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
 import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -45,21 +57,43 @@ public class JsonUtil {
 
     public static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = openJsonFile(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * If the file is missing, cannot be read or holds illegal values, but its backup from the last
+     * {@link #saveJsonFile(Object, Path)} can be read, the backup is returned instead.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
      */
     public static <T> Optional<T> readJsonFile(
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataConversionException {
+        return readJsonFile(filePath, parser -> objectMapper.readValue(parser, classOfObjectToDeserialize));
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, Class)}, but builds the result with {@code reader} as the file is parsed,
+     * so that the file never has to be held in memory as a whole.
+     * @param filePath cannot be null.
+     * @param reader reads the result from a parser positioned before the first token of the file.
+     * @throws DataConversionException if the file format is not as expected or its values are illegal.
+     */
+    public static <T> Optional<T> readJsonFile(
+            Path filePath, JsonStreamReader<T> reader) throws DataConversionException {
         requireNonNull(filePath);
+        requireNonNull(reader);
+        Path backupPath = FileUtil.getBackupPath(filePath);
 
         if (!Files.exists(filePath)) {
+            if (FileUtil.isFileExists(backupPath)) {
+                logger.warning("Json file " + filePath + " not found, recovering from " + backupPath);
+                return Optional.of(readBackup(backupPath, reader, null));
+            }
             logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
@@ -67,27 +101,157 @@ public class JsonUtil {
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            jsonFile = readWith(filePath, reader);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            if (FileUtil.isFileExists(backupPath)) {
+                logger.warning("Recovering " + filePath + " from " + backupPath);
+                return Optional.of(readBackup(backupPath, reader, e));
+            }
             throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            if (FileUtil.isFileExists(backupPath)) {
+                logger.warning("Recovering " + filePath + " from " + backupPath);
+                return Optional.of(readBackup(backupPath, reader, ive));
+            }
+            throw new DataConversionException(ive);
         }
 
         return Optional.of(jsonFile);
     }
 
     /**
-     * Saves the Json object to the specified file.
+     * Reads the backup of a Json file, reporting {@code originalError} if the backup cannot be read either.
+     */
+    private static <T> T readBackup(Path backupPath, JsonStreamReader<T> reader,
+            Exception originalError) throws DataConversionException {
+        try {
+            return readWith(backupPath, reader);
+        } catch (IOException e) {
+            logger.warning("Error reading from backup file " + backupPath + ": " + e);
+            throw new DataConversionException(originalError != null ? originalError : e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + backupPath + ": " + ive.getMessage());
+            throw new DataConversionException(originalError != null ? originalError : ive);
+        }
+    }
+
+    private static <T> T readWith(Path jsonFile, JsonStreamReader<T> reader)
+            throws IOException, IllegalValueException {
+        try (InputStream in = openJsonFile(jsonFile);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return reader.read(parser);
+        }
+    }
+
+    /**
+     * Opens the given json file for reading, decompressing it if it was saved in {@link StorageFormat#GZIP}.
+     */
+    private static InputStream openJsonFile(Path jsonFile) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile));
+        try {
+            in.mark(2);
+            int header = in.read() | (in.read() << 8);
+            in.reset();
+            return header == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in) : in;
+        } catch (IOException | RuntimeException e) {
+            // The caller has no stream to close if opening it fails.
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the array held by the field {@code fieldName} of the json object that {@code parser} is positioned
+     * before, converting its elements to {@code elementClass} and passing them to {@code consumer} one at a time.
+     * Other fields of the object are skipped, and nothing is passed to {@code consumer} if the field is missing.
+     * @throws IOException if the json is malformed or an element does not match {@code elementClass}.
+     * @throws IllegalValueException if {@code consumer} rejects an element.
+     */
+    public static <T> void readArrayField(JsonParser parser, String fieldName, Class<T> elementClass,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        readArrayField(parser, List.of(fieldName), elementClass, consumer);
+    }
+
+    /**
+     * Similar to {@link #readArrayField(JsonParser, String, Class, ElementConsumer)}, but reads the arrays held by any
+     * of the fields {@code fieldNames}, e.g. a field and the name it was saved under by older versions.
+     */
+    public static <T> void readArrayField(JsonParser parser, List<String> fieldNames, Class<T> elementClass,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a json object");
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String currentFieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldNames.contains(currentFieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected " + currentFieldName + " to be a json array");
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of " + currentFieldName);
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(parser, "Unexpected null element in " + currentFieldName);
+                }
+                consumer.accept(objectMapper.readValue(parser, elementClass));
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of json object");
+        }
+    }
+
+    /**
+     * Saves the Json object to the specified file in {@link StorageFormat#PRETTY}.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically and its previous content is kept as a backup.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, StorageFormat.PRETTY);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but saves the Json object in the given format.
+     * @param format cannot be null
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, StorageFormat format) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(format);
+
+        FileUtil.writeToFileAtomically(filePath, toJsonBytes(jsonFile, format));
+    }
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+    /**
+     * Converts a given instance of a class into its JSON data representation in the given format.
+     */
+    private static <T> byte[] toJsonBytes(T instance, StorageFormat format) throws IOException {
+        switch (format) {
+        case PRETTY:
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(instance);
+        case COMPACT:
+            return objectMapper.writeValueAsBytes(instance);
+        case GZIP:
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(bytes)) {
+                objectMapper.writeValue(out, instance);
+            }
+            return bytes.toByteArray();
+        default:
+            throw new AssertionError("Unknown storage format: " + format);
+        }
     }
 
 
@@ -110,6 +274,32 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Builds an object from a stream of json tokens.
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Receives the elements of a json array as they are read.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
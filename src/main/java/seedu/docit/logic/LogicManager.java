@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.GuiSettings;
 import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.MetricsCenter;
 import seedu.docit.logic.commands.Command;
 import seedu.docit.logic.commands.CommandResult;
 import seedu.docit.logic.commands.exceptions.CommandException;
@@ -24,19 +25,40 @@ import seedu.docit.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** Version of a book that is not in storage, which no version of the model matches. */
+    private static final long UNSAVED_VERSION = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Versions of the books last written to storage. The data a model is created with is version 0.
+    private long savedAddressBookVersion;
+    private long savedAppointmentBookVersion;
+    private long savedArchivedAppointmentBookVersion;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where the data the model
+     * was created with is already in storage.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true, true, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}. A book the model was
+     * created with that is not in storage, e.g. sample data used in place of a missing file, is saved after the next
+     * command, even if the command does not change it.
+     */
+    public LogicManager(Model model, Storage storage, boolean isAddressBookSaved, boolean isAppointmentBookSaved,
+            boolean isArchivedAppointmentBookSaved) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = isAddressBookSaved ? 0 : UNSAVED_VERSION;
+        savedAppointmentBookVersion = isAppointmentBookSaved ? 0 : UNSAVED_VERSION;
+        savedArchivedAppointmentBookVersion = isArchivedAppointmentBookSaved ? 0 : UNSAVED_VERSION;
     }
 
     @Override
@@ -44,18 +66,48 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        long parseStart = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long executeStart = System.nanoTime();
+        MetricsCenter.recordTime("parse " + command.getClass().getSimpleName(), executeStart - parseStart);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            MetricsCenter.recordTime("execute " + command.getClass().getSimpleName(),
+                    System.nanoTime() - executeStart);
+            // Each command is undone as a whole, including any changes made before it failed.
+            model.commitChanges();
+        }
+
+        saveModifiedBooks();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves only the books in the model that have been modified since they were last saved.
+     */
+    private void saveModifiedBooks() throws CommandException {
+        long addressBookVersion = model.getAddressBookVersion();
+        long appointmentBookVersion = model.getAppointmentBookVersion();
+        long archivedAppointmentBookVersion = model.getArchivedAppointmentBookVersion();
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveAppointmentBook(model.getAppointmentBook(), model.getAddressBook());
-            storage.saveArchivedAppointmentBook(model.getArchivedAppointmentBook(), model.getAddressBook());
+            if (addressBookVersion != savedAddressBookVersion) {
+                storage.saveAddressBook(model.getAddressBook());
+                savedAddressBookVersion = addressBookVersion;
+            }
+            if (appointmentBookVersion != savedAppointmentBookVersion) {
+                storage.saveAppointmentBook(model.getAppointmentBook(), model.getAddressBook());
+                savedAppointmentBookVersion = appointmentBookVersion;
+            }
+            if (archivedAppointmentBookVersion != savedArchivedAppointmentBookVersion) {
+                storage.saveArchivedAppointmentBook(model.getArchivedAppointmentBook(), model.getAddressBook());
+                savedArchivedAppointmentBookVersion = archivedAppointmentBookVersion;
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -2,13 +2,19 @@ package seedu.docit.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.docit.commons.core.Messages;
 import seedu.docit.model.Model;
+import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.patient.PatientContainsKeywordsPredicate;
+import seedu.docit.model.patient.PatientId;
+import seedu.docit.model.patient.PatientIdInSetPredicate;
 
 /**
  * Finds and lists all patients in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matches are looked up in the address book's word index rather than by testing every patient against the keywords.
  */
 public class FindPatientCommand extends PatientCommand {
 
@@ -29,7 +35,9 @@ public class FindPatientCommand extends PatientCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatientList(predicate);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        Set<PatientId> matchingIds = addressBook.findPatientIds(predicate.getKeywords());
+        model.updateFilteredPatientList(new PatientIdInSetPredicate(matchingIds, addressBook));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
     }
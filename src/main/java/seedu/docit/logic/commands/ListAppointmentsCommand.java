@@ -3,21 +3,73 @@ package seedu.docit.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 import seedu.docit.model.Model;
+import seedu.docit.model.appointment.Appointment;
 
 /**
- * Lists all appointments in the address book to the user.
+ * Lists all appointments in the address book to the user, or only those on the days of a given period.
  */
 public class ListAppointmentsCommand extends AppointmentCommand {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = "apmt " + COMMAND_WORD
+            + ": Lists all appointments, or only those today, this week or between two dates (inclusive).\n"
+            + "Parameters: [today | week | START_DATE END_DATE] (dates in yyyy-M-d format)\n"
+            + "Example: apmt " + COMMAND_WORD + " week\n"
+            + "Example: apmt " + COMMAND_WORD + " 2021-12-1 2021-12-31";
+
     public static final String MESSAGE_SUCCESS = "Listed all appointments";
+    public static final String MESSAGE_SUCCESS_PERIOD = "Listed %1$d appointments from %2$s to %3$s";
 
+    /** First day of the period to list, or null if all appointments are listed. */
+    private final LocalDate startDate;
+    /** Last day of the period to list, or null if all appointments are listed. */
+    private final LocalDate endDate;
+
+    /**
+     * Creates a ListAppointmentsCommand that lists all appointments.
+     */
+    public ListAppointmentsCommand() {
+        this.startDate = null;
+        this.endDate = null;
+    }
+
+    /**
+     * Creates a ListAppointmentsCommand that lists the appointments from {@code startDate} to {@code endDate},
+     * both inclusive.
+     */
+    public ListAppointmentsCommand(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        assert !startDate.isAfter(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
 
     @Override public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
-        return new CommandResult(MESSAGE_SUCCESS, false, false, false);
+        if (startDate == null) {
+            model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+            return new CommandResult(MESSAGE_SUCCESS, false, false, false);
+        }
+
+        // Filtered by date rather than by the appointments now in the period, so that the list keeps showing them
+        // after they are edited. This checks every appointment in the book once.
+        model.updateFilteredAppointmentList(appointment -> appointment.isBetween(startDate, endDate));
+        int appointmentsInPeriod = model.getFilteredAppointmentList().size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS_PERIOD, appointmentsInPeriod,
+                startDate.format(Appointment.UI_DATE_FORMATTER), endDate.format(Appointment.UI_DATE_FORMATTER)),
+                false, false, false);
+    }
+
+    @Override public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListAppointmentsCommand // instanceof handles nulls
+                && Objects.equals(startDate, ((ListAppointmentsCommand) other).startDate)
+                && Objects.equals(endDate, ((ListAppointmentsCommand) other).endDate)); // state check
     }
 }
@@ -0,0 +1,42 @@
+package seedu.docit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
+import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import seedu.docit.logic.commands.exceptions.CommandException;
+import seedu.docit.model.Model;
+import seedu.docit.model.exceptions.EditConflictException;
+
+/**
+ * Redoes the changes made by the latest command that was undone.
+ */
+public class RedoCommand extends BasicCommand {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = "doc " + COMMAND_WORD
+            + ": Redoes the changes made by the latest command that was undone, if no other "
+            + "changes were made since.\n"
+            + "Example: doc " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo successful!";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no changes to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        try {
+            model.redo();
+        } catch (EditConflictException e) {
+            throw new CommandException(e.getMessage());
+        }
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.docit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.docit.commons.core.Messages;
+import seedu.docit.model.Model;
+import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
+import seedu.docit.model.patient.PatientIdInSetPredicate;
+
+/**
+ * Lists the patients in address book whose names best match the argument keywords, best match first, allowing for
+ * partly typed and misspelt names. Keyword matching is case insensitive.
+ */
+public class SearchPatientCommand extends PatientCommand {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = "pt " + COMMAND_WORD + ": Lists up to " + MAX_RESULTS
+            + " patients whose names best match the specified keywords (case-insensitive). A keyword also matches "
+            + "names that start with it or are spelt slightly differently.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: pt " + COMMAND_WORD + " alic pualine";
+
+    public static final String MESSAGE_CLOSEST_MATCH = "Closest match: %1$s";
+
+    private final List<String> keywords;
+
+    public SearchPatientCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<PatientId> closestIds = addressBook.findClosestPatientIds(keywords, MAX_RESULTS);
+        Map<PatientId, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < closestIds.size(); i++) {
+            ranks.put(closestIds.get(i), i);
+        }
+        Comparator<Patient> byRank = Comparator.comparing(patient -> ranks.get(addressBook.getIdOfPatient(patient)));
+        model.updateFilteredPatientList(new PatientIdInSetPredicate(ranks.keySet(), addressBook), byRank);
+
+        String message = String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, closestIds.size());
+        if (!closestIds.isEmpty()) {
+            message += "\n" + String.format(MESSAGE_CLOSEST_MATCH,
+                    addressBook.getPatientOfId(closestIds.get(0)).getName());
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchPatientCommand // instanceof handles nulls
+                && keywords.equals(((SearchPatientCommand) other).keywords)); // state check
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.docit.logic.commands;
+
+import seedu.docit.commons.core.MetricsCenter;
+import seedu.docit.model.Model;
+
+/**
+ * Shows how long commands and saves have taken, and how much data has been written, since the app started.
+ */
+public class StatsCommand extends BasicCommand {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = "doc " + COMMAND_WORD
+            + ": Shows the time taken to parse and execute each kind of command, the time taken to save each book "
+            + "and the number of bytes written to each file.\n"
+            + "Example: doc " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MetricsCenter.report(), false, false, false);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.docit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
+import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import seedu.docit.logic.commands.exceptions.CommandException;
+import seedu.docit.model.Model;
+import seedu.docit.model.exceptions.EditConflictException;
+
+/**
+ * Undoes the changes made by the latest command that was not undone.
+ */
+public class UndoCommand extends BasicCommand {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = "doc " + COMMAND_WORD
+            + ": Undoes the changes made by the latest command that changed any patients or "
+            + "appointments, and was not undone.\n"
+            + "Example: doc " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undo successful!";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no changes to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        try {
+            model.undo();
+        } catch (EditConflictException e) {
+            throw new CommandException(e.getMessage());
+        }
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,33 +1,130 @@
 package seedu.docit.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_REGREX_FORMAT;
 import static seedu.docit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.docit.commons.util.AppUtil.checkArgument;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
+import seedu.docit.logic.commands.AddAppointmentCommand;
+import seedu.docit.logic.commands.AddMedicalEntryCommand;
+import seedu.docit.logic.commands.AddPatientCommand;
+import seedu.docit.logic.commands.ArchiveAppointmentCommand;
+import seedu.docit.logic.commands.ClearCommand;
 import seedu.docit.logic.commands.Command;
+import seedu.docit.logic.commands.DeleteAppointmentCommand;
+import seedu.docit.logic.commands.DeleteMedicalEntryCommand;
+import seedu.docit.logic.commands.DeletePatientCommand;
+import seedu.docit.logic.commands.EditAppointmentCommand;
+import seedu.docit.logic.commands.EditPatientCommand;
+import seedu.docit.logic.commands.ExitCommand;
+import seedu.docit.logic.commands.FindPatientCommand;
 import seedu.docit.logic.commands.HelpCommand;
+import seedu.docit.logic.commands.ListAppointmentsCommand;
+import seedu.docit.logic.commands.ListArchivedAppointmentsCommand;
+import seedu.docit.logic.commands.ListPatientCommand;
+import seedu.docit.logic.commands.RedoCommand;
+import seedu.docit.logic.commands.SearchPatientCommand;
+import seedu.docit.logic.commands.SortAppointmentsCommand;
+import seedu.docit.logic.commands.StatsCommand;
+import seedu.docit.logic.commands.UndoCommand;
+import seedu.docit.logic.commands.prescription.AddPrescriptionCommand;
+import seedu.docit.logic.commands.prescription.DeletePrescriptionCommand;
 import seedu.docit.logic.parser.exceptions.ParseException;
+import seedu.docit.logic.parser.prescription.AddPrescriptionCommandParser;
+import seedu.docit.logic.parser.prescription.DeletePrescriptionCommandParser;
 
 
 /**
  * Parses user input.
+ * <p>
+ * User input is a command prefix that names a family of commands, a single space, a command word, and the arguments
+ * of the command, e.g. {@code pt delete 1}. The parser of each command is looked up by its prefix and command word.
  */
 public class AddressBookParser {
 
+    public static final String BASIC_COMMAND_PREFIX = "doc";
+    public static final String PATIENT_COMMAND_PREFIX = "pt";
+    public static final String APPOINTMENT_COMMAND_PREFIX = "apmt";
+
+    /** Characters allowed in user input, other than whitespace, indexed by character. */
+    private static final boolean[] IS_VALID_CHARACTER = new boolean[128];
+
+    static {
+        for (char c : "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789/,.-#@+_".toCharArray()) {
+            IS_VALID_CHARACTER[c] = true;
+        }
+    }
+
+    /** Parsers of the commands, keyed by command prefix and command word separated by a single space. */
+    private final Map<String, Parser<? extends Command>> commandParsers = new HashMap<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that parses the basic, patient and appointment commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(doc) (?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Pattern PTNT_COMMAND_FORMAT = Pattern.compile("(pt) (?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Pattern APPT_COMMAND_FORMAT = Pattern.compile("(apmt) (?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Pattern VALID_INPUT_FORMAT = Pattern.compile("^[a-z-A-Z0-9/,.\\-#@+_\\s]*$");
+    public AddressBookParser() {
+        registerCommand(BASIC_COMMAND_PREFIX, ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registerCommand(BASIC_COMMAND_PREFIX, ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registerCommand(BASIC_COMMAND_PREFIX, HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registerCommand(BASIC_COMMAND_PREFIX, StatsCommand.COMMAND_WORD, arguments -> new StatsCommand());
+        registerCommand(BASIC_COMMAND_PREFIX, UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registerCommand(BASIC_COMMAND_PREFIX, RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+
+        registerCommand(PATIENT_COMMAND_PREFIX, AddPatientCommand.COMMAND_WORD,
+                new AddPatientCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, EditPatientCommand.COMMAND_WORD,
+                new EditPatientCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, DeletePatientCommand.COMMAND_WORD,
+                new DeletePatientCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, FindPatientCommand.COMMAND_WORD,
+                new FindPatientCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, SearchPatientCommand.COMMAND_WORD,
+                new SearchPatientCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, ListPatientCommand.COMMAND_WORD, arguments -> new ListPatientCommand());
+        registerCommand(PATIENT_COMMAND_PREFIX, AddMedicalEntryCommand.COMMAND_WORD,
+                new AddMedicalEntryCommandParser()::parsePatientCommand);
+        registerCommand(PATIENT_COMMAND_PREFIX, DeleteMedicalEntryCommand.COMMAND_WORD,
+                new DeleteMedicalEntryCommandParser()::parsePatientCommand);
 
-    private final PatientBookParser patientParser = new PatientBookParser();
-    private final AppointmentBookParser apmtParser = new AppointmentBookParser();
-    private final BasicAddressBookParser basicParser = new BasicAddressBookParser();
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, AddAppointmentCommand.COMMAND_WORD,
+                new AddAppointmentCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, EditAppointmentCommand.COMMAND_WORD,
+                new EditAppointmentCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, DeleteAppointmentCommand.COMMAND_WORD,
+                new DeleteAppointmentCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, ArchiveAppointmentCommand.COMMAND_WORD,
+                new ArchiveAppointmentCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, ListAppointmentsCommand.COMMAND_WORD,
+                new ListAppointmentsCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, ListArchivedAppointmentsCommand.COMMAND_WORD,
+                arguments -> new ListArchivedAppointmentsCommand());
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, SortAppointmentsCommand.COMMAND_WORD,
+                arguments -> new SortAppointmentsCommand());
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, AddPrescriptionCommand.COMMAND_WORD,
+                new AddPrescriptionCommandParser()::parseAppointmentCommand);
+        registerCommand(APPOINTMENT_COMMAND_PREFIX, DeletePrescriptionCommand.COMMAND_WORD,
+                new DeletePrescriptionCommandParser()::parseAppointmentCommand);
+    }
+
+    /**
+     * Makes {@code parser} parse the arguments of user input that starts with {@code commandPrefix} and
+     * {@code commandWord}. Neither may be blank or contain whitespace.
+     *
+     * @throws IllegalArgumentException if a parser is already registered for the prefix and command word.
+     */
+    public void registerCommand(String commandPrefix, String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandPrefix);
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(isSingleWord(commandPrefix) && isSingleWord(commandWord),
+                "Command prefixes and words must be single words.");
+        Parser<? extends Command> existingParser = commandParsers.putIfAbsent(commandPrefix + " " + commandWord,
+                parser);
+        checkArgument(existingParser == null, "Command already registered: " + commandPrefix + " " + commandWord);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -37,38 +134,68 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher patientMatcher = PTNT_COMMAND_FORMAT.matcher(userInput.trim());
-        final Matcher basicMatcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        final Matcher apmtMatcher = APPT_COMMAND_FORMAT.matcher(userInput.trim());
-        final Matcher inputMatcher = VALID_INPUT_FORMAT.matcher(userInput.trim());
-
         // empty, invalid inputs
         if (userInput.equals("")) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        if (!inputMatcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_REGREX_FORMAT, HelpCommand.MESSAGE_USAGE));
+        // Finds the bounds of the trimmed input, the prefix and the command word, and checks every character, in
+        // a single pass.
+        int start = 0;
+        int end = userInput.length();
+        while (start < end && userInput.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && userInput.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int prefixEnd = -1;
+        int commandWordEnd = -1;
+        for (int i = start; i < end; i++) {
+            char c = userInput.charAt(i);
+            if (isWhitespace(c)) {
+                if (prefixEnd == -1) {
+                    prefixEnd = i;
+                } else if (commandWordEnd == -1) {
+                    commandWordEnd = i;
+                }
+            } else if (c >= IS_VALID_CHARACTER.length || !IS_VALID_CHARACTER[c]) {
+                throw new ParseException(String.format(MESSAGE_INVALID_REGREX_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+        }
+        if (commandWordEnd == -1) {
+            commandWordEnd = end;
         }
 
         // non-empty, potentially valid inputs
-        if (basicMatcher.matches()) {
-            // Basic Command Matching
-            final String commandWord = basicMatcher.group("commandWord");
-            final String arguments = basicMatcher.group("arguments"); // ignore any arguments
-            return basicParser.parseBasicCommand(commandWord);
-        } else if (apmtMatcher.matches()) {
-            // Appointment Command Matching
-            final String commandWord = apmtMatcher.group("commandWord");
-            final String arguments = apmtMatcher.group("arguments");
-            return apmtParser.parseAppointmentCommand(commandWord, arguments);
-        } else if (patientMatcher.matches()) {
-            // Patient Command Matching
-            final String commandWord = patientMatcher.group("commandWord");
-            final String arguments = patientMatcher.group("arguments");
-            return patientParser.parsePatientCommand(commandWord, arguments);
-        } else {
+        boolean hasCommandWord = prefixEnd != -1 && userInput.charAt(prefixEnd) == ' '
+                && commandWordEnd > prefixEnd + 1;
+        Parser<? extends Command> parser = hasCommandWord
+                ? commandParsers.get(userInput.substring(start, commandWordEnd))
+                : null;
+        if (parser == null) {
             throw new ParseException(String.format(MESSAGE_UNKNOWN_COMMAND, HelpCommand.MESSAGE_USAGE));
         }
+        return parser.parse(userInput.substring(commandWordEnd, end));
+    }
+
+    private static boolean isSingleWord(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (isWhitespace(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character in user input, i.e. one of {@code [ \t\n\x0B\f\r]}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
 }
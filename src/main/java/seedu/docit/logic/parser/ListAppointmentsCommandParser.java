@@ -0,0 +1,71 @@
+package seedu.docit.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import seedu.docit.logic.commands.ListAppointmentsCommand;
+import seedu.docit.logic.parser.exceptions.ParseException;
+import seedu.docit.model.appointment.Appointment;
+
+/**
+ * Parses input arguments and creates a new ListAppointmentsCommand object
+ */
+public class ListAppointmentsCommandParser implements AppointmentParser<ListAppointmentsCommand> {
+
+    public static final String PERIOD_TODAY = "today";
+    public static final String PERIOD_WEEK = "week";
+    public static final String MESSAGE_END_BEFORE_START = "The end date must not be before the start date.";
+
+    private final Clock clock;
+
+    public ListAppointmentsCommandParser() {
+        this(Clock.system(Appointment.CLINIC_ZONE));
+    }
+
+    /**
+     * Creates a ListAppointmentsCommandParser that reads today's date from {@code clock}.
+     */
+    ListAppointmentsCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListAppointmentsCommand and returns a
+     * ListAppointmentsCommand object for execution. Weeks start on Monday.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListAppointmentsCommand parseAppointmentCommand(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ListAppointmentsCommand();
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        if (trimmedArgs.equalsIgnoreCase(PERIOD_TODAY)) {
+            return new ListAppointmentsCommand(today, today);
+        }
+        if (trimmedArgs.equalsIgnoreCase(PERIOD_WEEK)) {
+            LocalDate monday = today.with(DayOfWeek.MONDAY);
+            return new ListAppointmentsCommand(monday, monday.plusDays(6));
+        }
+
+        String[] dates = trimmedArgs.split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListAppointmentsCommand.MESSAGE_USAGE));
+        }
+        LocalDate startDate = ParserUtil.parseDate(dates[0]);
+        LocalDate endDate = ParserUtil.parseDate(dates[1]);
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+        return new ListAppointmentsCommand(startDate, endDate);
+    }
+
+}
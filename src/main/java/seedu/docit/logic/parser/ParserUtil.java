@@ -2,6 +2,7 @@ package seedu.docit.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -29,6 +30,7 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_DATETIME = "%s is incorrect datetime format.";
+    public static final String MESSAGE_INVALID_DATE = "%s is incorrect date format.";
     public static final String MESSAGE_INVALID_DATETIME_VALUE = "Year must be between year 2000 to 2999 inclusive and "
         + "hour must"
         + " be between 0000 to 2359 inclusive.";
@@ -155,6 +157,19 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses {@code String date} of the form {@code yyyy-M-d} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!trimmedDate.matches("[0-9]{4}-[0-9]{1,2}-[0-9]{1,2}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, trimmedDate));
+        }
+        return parseDateTime(trimmedDate + " 0000", INPUT_DATE_TIME_FORMATTER).toLocalDate();
+    }
+
     /**
      * Parses {@code String medicalEntry} into a {@code MedicalHistory}.
      */
@@ -0,0 +1,30 @@
+package seedu.docit.logic.parser;
+
+import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.docit.logic.commands.SearchPatientCommand;
+import seedu.docit.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchPatientCommand object
+ */
+public class SearchPatientCommandParser implements PatientParser<SearchPatientCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchPatientCommand
+     * and returns a SearchPatientCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchPatientCommand parsePatientCommand(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchPatientCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchPatientCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+
+}
@@ -2,20 +2,35 @@ package seedu.docit.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.index.Index;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
+import seedu.docit.model.patient.PatientSearchIndex;
 import seedu.docit.model.patient.UniquePatientList;
 
 /**
  * Wraps all data at the docit-book level
  * Duplicates are not allowed (by .isSamePatient comparison)
+ * An inverted index of the words in each patient's name and medical history is kept in sync with the patients.
+ * Every change to the patients is reported to the edit listener as an {@link UndoableEdit}.
+ * The last snapshot taken is reused until the patients change.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePatientList patients;
+    private final PatientSearchIndex searchIndex = new PatientSearchIndex();
+    private Consumer<UndoableEdit> editListener = edit -> { };
+    private AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,16 +60,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code patients} must not contain duplicate patients.
      */
     public void setPatients(List<Patient> patients) {
-        this.patients.setPatients(patients);
+        replacePatients(patients, patient -> null);
     }
 
     /**
-     * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Resets the existing data of this {@code AddressBook} with {@code newData}, keeping the IDs of its patients.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPatients(newData.getPatientList());
+        replacePatients(newData.getPatientList(), newData::getIdOfPatient);
+    }
+
+    /**
+     * Reports every later change to the patients to {@code editListener}, instead of to the previous listener.
+     */
+    public void setEditListener(Consumer<UndoableEdit> editListener) {
+        this.editListener = requireNonNull(editListener);
+    }
+
+    /**
+     * Forgets the last snapshot, as the patients have changed since, and reports {@code edit} to the edit listener.
+     */
+    private void recordEdit(UndoableEdit edit) {
+        snapshot = null;
+        editListener.accept(edit);
     }
 
     //// patient-level operations
@@ -73,6 +103,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        PatientId id = patients.idOf(p);
+        searchIndex.add(id, p);
+        recordEdit(UndoableEdit.of(() -> removePatient(p), () -> addPatient(p, id)));
+    }
+
+    /**
+     * Adds a patient with the given ID to the address book.
+     * The patient must not already exist in the address book, and its ID must not be used by another patient.
+     */
+    public void addPatient(Patient p, PatientId id) {
+        patients.add(p, id);
+        searchIndex.add(id, p);
+        recordEdit(UndoableEdit.of(() -> removePatient(p), () -> addPatient(p, id)));
     }
 
     /**
@@ -84,6 +127,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPatient);
 
         patients.setPatient(target, editedPatient);
+        searchIndex.add(patients.idOf(editedPatient), editedPatient);
+        recordEdit(UndoableEdit.of(
+                () -> setPatient(editedPatient, target), () -> setPatient(target, editedPatient)));
     }
 
     /**
@@ -91,7 +137,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePatient(Patient key) {
+        PatientId id = patients.idOf(key);
+        Index index = patients.indexOf(key);
         patients.remove(key);
+        searchIndex.remove(id);
+        recordEdit(UndoableEdit.of(() -> insertPatient(index, key, id), () -> removePatient(key)));
+    }
+
+    /**
+     * Inserts a patient with the given ID at {@code index}, or at the end if {@code index} is past the end.
+     */
+    private void insertPatient(Index index, Patient p, PatientId id) {
+        patients.add(index, p, id);
+        searchIndex.add(id, p);
+        recordEdit(UndoableEdit.of(() -> removePatient(p), () -> insertPatient(index, p, id)));
+    }
+
+    /**
+     * Replaces the patients with {@code newPatients}, keeping the ID {@code idOf} returns for each patient.
+     */
+    private void replacePatients(List<Patient> newPatients, Function<? super Patient, PatientId> idOf) {
+        List<Patient> oldPatients = new ArrayList<>(patients.asUnmodifiableObservableList());
+        Map<Patient, PatientId> oldIds = getIdsOf(oldPatients);
+
+        patients.setPatients(newPatients, idOf);
+        reindexPatients();
+
+        List<Patient> replacements = new ArrayList<>(patients.asUnmodifiableObservableList());
+        Map<Patient, PatientId> replacementIds = getIdsOf(replacements);
+        recordEdit(UndoableEdit.of(() -> replacePatients(oldPatients, oldIds::get),
+                () -> replacePatients(replacements, replacementIds::get)));
+    }
+
+    private Map<Patient, PatientId> getIdsOf(List<Patient> patientsInList) {
+        Map<Patient, PatientId> ids = new IdentityHashMap<>();
+        for (Patient patient : patientsInList) {
+            ids.put(patient, patients.idOf(patient));
+        }
+        return ids;
     }
 
 
@@ -113,6 +196,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         return patients.indexOf(patient);
     }
 
+    /**
+     * Returns patient with the given ID or null if not exist.
+     */
+    @Override
+    public Patient getPatientOfId(PatientId id) {
+        requireNonNull(id);
+        return patients.get(id);
+    }
+
+    /**
+     * Returns ID of patient in the list or null if not exist.
+     */
+    @Override
+    public PatientId getIdOfPatient(Patient patient) {
+        requireNonNull(patient);
+        return patients.idOf(patient);
+    }
+
+    /**
+     * Returns IDs of patients whose name or medical history contains any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    @Override
+    public Set<PatientId> findPatientIds(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns IDs of at most {@code limit} patients whose names best match {@code keywords} by whole word, prefix or
+     * spelling, best match first.
+     */
+    @Override
+    public List<PatientId> findClosestPatientIds(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return searchIndex.findClosest(keywords, limit);
+    }
+
+    /**
+     * Returns an unmodifiable copy of this address book that shares its patients, taken without rebuilding any of
+     * its indexes.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        if (snapshot == null) {
+            List<Patient> patientsInList = patients.asUnmodifiableObservableList();
+            List<PatientId> ids = new ArrayList<>(patientsInList.size());
+            for (Patient patient : patientsInList) {
+                ids.add(patients.idOf(patient));
+            }
+            snapshot = new AddressBookSnapshot(patientsInList, ids);
+        }
+        return snapshot;
+    }
+
+    private void reindexPatients() {
+        searchIndex.clear();
+        for (Patient patient : patients) {
+            searchIndex.add(patients.idOf(patient), patient);
+        }
+    }
 
 
 
@@ -0,0 +1,126 @@
+package seedu.docit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.docit.commons.core.index.Index;
+import seedu.docit.model.patient.Name;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
+import seedu.docit.model.patient.PatientSearchIndex;
+
+/**
+ * An unmodifiable address book that shares its immutable patients with the address book it was taken from.
+ * <p>
+ * Taking a snapshot only copies the references to the patients and their IDs. The lookups by name and ID, and the
+ * search index, are built the first time they are needed, so that a snapshot taken on one thread and written to disk
+ * on another costs the first thread little.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Patient> patients;
+    private final List<PatientId> ids;
+
+    // Built on first use, guarded by this
+    private Map<Name, Integer> positionsByName;
+    private Map<PatientId, Integer> positionsById;
+    private PatientSearchIndex searchIndex;
+
+    /**
+     * Creates a snapshot of {@code patients}, where the patient at each position has the ID at the same position in
+     * {@code ids}.
+     */
+    AddressBookSnapshot(List<Patient> patients, List<PatientId> ids) {
+        assert patients.size() == ids.size();
+        this.patients = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(patients));
+        this.ids = List.copyOf(ids);
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    @Override
+    public Patient getPatientOfIndex(Index index) {
+        requireNonNull(index);
+        return index.getZeroBased() < patients.size() ? patients.get(index.getZeroBased()) : null;
+    }
+
+    @Override
+    public Index getIndexOfPatient(Patient patient) {
+        requireNonNull(patient);
+        int position = positionOf(patient);
+        return position != -1 ? Index.fromZeroBased(position) : null;
+    }
+
+    @Override
+    public synchronized Patient getPatientOfId(PatientId id) {
+        requireNonNull(id);
+        buildLookups();
+        Integer position = positionsById.get(id);
+        return position != null ? patients.get(position) : null;
+    }
+
+    @Override
+    public PatientId getIdOfPatient(Patient patient) {
+        requireNonNull(patient);
+        int position = positionOf(patient);
+        return position != -1 ? ids.get(position) : null;
+    }
+
+    @Override
+    public synchronized Set<PatientId> findPatientIds(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return getSearchIndex().findAny(keywords);
+    }
+
+    @Override
+    public synchronized List<PatientId> findClosestPatientIds(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return getSearchIndex().findClosest(keywords, limit);
+    }
+
+    @Override
+    public String toString() {
+        return patients.size() + " patients";
+    }
+
+    /**
+     * Returns the position of the patient that is equal to {@code patient}, or -1 if there is no such patient.
+     */
+    private synchronized int positionOf(Patient patient) {
+        buildLookups();
+        Integer position = positionsByName.get(patient.getName());
+        return position != null && patients.get(position).equals(patient) ? position : -1;
+    }
+
+    private void buildLookups() {
+        if (positionsByName != null) {
+            return;
+        }
+        positionsByName = new HashMap<>();
+        positionsById = new HashMap<>();
+        for (int i = 0; i < patients.size(); i++) {
+            positionsByName.put(patients.get(i).getName(), i);
+            positionsById.put(ids.get(i), i);
+        }
+    }
+
+    private PatientSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PatientSearchIndex();
+            for (int i = 0; i < patients.size(); i++) {
+                searchIndex.add(ids.get(i), patients.get(i));
+            }
+        }
+        return searchIndex;
+    }
+}
@@ -2,9 +2,11 @@ package seedu.docit.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.docit.model.appointment.Appointment;
@@ -59,6 +61,13 @@ public class AppointmentBook implements ReadOnlyAppointmentBook {
         setAppointments(newData.getAppointmentList());
     }
 
+    /**
+     * Reports every later change to the appointments to {@code editListener}, instead of to the previous listener.
+     */
+    public void setEditListener(Consumer<UndoableEdit> editListener) {
+        appointments.setEditListener(editListener);
+    }
+
     //// appointment-level operations
 
     /**
@@ -69,6 +78,20 @@ public class AppointmentBook implements ReadOnlyAppointmentBook {
         return appointments.contains(appointment);
     }
 
+    /**
+     * Returns the appointments from {@code from} inclusive to {@code to} exclusive, in order of datetime.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to) {
+        return appointments.getAppointmentsBetween(from, to);
+    }
+
+    /**
+     * Returns the datetime of the earliest appointment, or an empty Optional if there are no appointments.
+     */
+    public Optional<LocalDateTime> getEarliestAppointmentDatetime() {
+        return appointments.getEarliestDatetime();
+    }
+
     /**
      * Adds an appointment to the address book. The appointment must not already exist in the address book.
      */
@@ -120,11 +143,9 @@ public class AppointmentBook implements ReadOnlyAppointmentBook {
     public void updatePatient(Patient target, Patient editedPatient) {
         requireNonNull(editedPatient);
 
-        for (Appointment appointment : appointments) {
-            if (appointment.getPatient().equals(target)) {
-                Appointment editedAppointment = new Appointment(editedPatient, appointment.getDatetime());
-                setAppointment(appointment, editedAppointment);
-            }
+        for (Appointment appointment : appointments.getAppointmentsOfPatient(target)) {
+            Appointment editedAppointment = new Appointment(editedPatient, appointment.getDatetime());
+            setAppointment(appointment, editedAppointment);
         }
     }
 
@@ -132,18 +153,9 @@ public class AppointmentBook implements ReadOnlyAppointmentBook {
      * Removes/updates appointments in the list with {@code target} when a patient is removed from the AddressBook.
      */
     public void removePatient(Patient target) {
-        ArrayList<Appointment> appointmentsToRemove = new ArrayList<>();
-
-        for (Appointment appointment : appointments) {
+        requireNonNull(target);
 
-            if (appointment.getPatient().equals(target)) {
-                appointmentsToRemove.add(appointment);
-            }
-        }
-
-        for (Appointment appointmentToRemove : appointmentsToRemove) {
-            removeAppointment(appointmentToRemove);
-        }
+        appointments.removeAppointmentsOfPatient(target);
     }
 
     /**
@@ -153,6 +165,23 @@ public class AppointmentBook implements ReadOnlyAppointmentBook {
         appointments.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AppointmentBook} at once. {@code keys} must exist in the address book.
+     */
+    public void removeAppointments(List<Appointment> keys) {
+        appointments.removeAll(keys);
+    }
+
+    /**
+     * Returns an unmodifiable copy of this appointment book that shares its appointments, which is only copied again
+     * after the appointments have changed.
+     */
+    @Override
+    public ReadOnlyAppointmentBook snapshot() {
+        ObservableList<Appointment> snapshot = appointments.asUnmodifiableSnapshot();
+        return () -> snapshot;
+    }
+
     //// util methods
 
     @Override
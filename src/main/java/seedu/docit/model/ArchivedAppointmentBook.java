@@ -2,9 +2,9 @@ package seedu.docit.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.docit.model.appointment.Appointment;
@@ -59,6 +59,13 @@ public class ArchivedAppointmentBook implements ReadOnlyAppointmentBook {
         setArchivedAppointments(newData.getAppointmentList());
     }
 
+    /**
+     * Reports every later change to the appointments to {@code editListener}, instead of to the previous listener.
+     */
+    public void setEditListener(Consumer<UndoableEdit> editListener) {
+        archivedAppointments.setEditListener(editListener);
+    }
+
     //// appointment-level operations
 
     /**
@@ -87,13 +94,6 @@ public class ArchivedAppointmentBook implements ReadOnlyAppointmentBook {
         archivedAppointments.setAppointment(target, editedAppointment);
     }
 
-    /**
-     * Removes {@code key} from this {@code AppointmentBook}. {@code key} must exist in the address book.
-     */
-    private void removeAppointment(Appointment key) {
-        archivedAppointments.remove(key);
-    }
-
     /**
      * Updates appointments in the list with {@code target} when there are changes to the patient's details.
      * The appointment identity of {@code editedAppointment} must not be the same as another
@@ -102,11 +102,9 @@ public class ArchivedAppointmentBook implements ReadOnlyAppointmentBook {
     public void updatePatient(Patient target, Patient editedPatient) {
         requireNonNull(editedPatient);
 
-        for (Appointment appointment : archivedAppointments) {
-            if (appointment.getPatient().equals(target)) {
-                Appointment editedAppointment = new Appointment(editedPatient, appointment.getDatetime());
-                setAppointment(appointment, editedAppointment);
-            }
+        for (Appointment appointment : archivedAppointments.getAppointmentsOfPatient(target)) {
+            Appointment editedAppointment = new Appointment(editedPatient, appointment.getDatetime());
+            setAppointment(appointment, editedAppointment);
         }
     }
 
@@ -114,18 +112,19 @@ public class ArchivedAppointmentBook implements ReadOnlyAppointmentBook {
      * Removes/updates appointments in the list with {@code target} when a patient is removed from the AddressBook.
      */
     public void removePatient(Patient target) {
-        ArrayList<Appointment> appointmentsToRemove = new ArrayList<>();
-
-        for (Appointment appointment : archivedAppointments) {
+        requireNonNull(target);
 
-            if (appointment.getPatient().equals(target)) {
-                appointmentsToRemove.add(appointment);
-            }
-        }
+        archivedAppointments.removeAppointmentsOfPatient(target);
+    }
 
-        for (Appointment appointmentToRemove : appointmentsToRemove) {
-            removeAppointment(appointmentToRemove);
-        }
+    /**
+     * Returns an unmodifiable copy of this appointment book that shares its appointments, which is only copied again
+     * after the appointments have changed.
+     */
+    @Override
+    public ReadOnlyAppointmentBook snapshot() {
+        ObservableList<Appointment> snapshot = archivedAppointments.asUnmodifiableSnapshot();
+        return () -> snapshot;
     }
 
     //// util methods
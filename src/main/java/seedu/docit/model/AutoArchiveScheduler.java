@@ -0,0 +1,147 @@
+package seedu.docit.model;
+
+import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.model.appointment.Appointment;
+
+/**
+ * Archives each appointment of a {@code Model} as soon as it is {@link #ARCHIVE_DELAY} past its scheduled time.
+ * <p>
+ * Only one archive run is scheduled at a time, for when the earliest appointment expires, or for the start of the
+ * next day if that is sooner so that appointments that were today are reordered. Appointments are kept in order of
+ * datetime by the appointment book, so finding the earliest one takes O(log N) time. The run is scheduled again
+ * whenever the appointments change. Runs are handed to the model executor, so that the model is only changed by the
+ * thread that changes it for commands.
+ */
+public class AutoArchiveScheduler {
+
+    public static final Duration ARCHIVE_DELAY = Duration.ofDays(1);
+
+    private static final Logger logger = LogsCenter.getLogger(AutoArchiveScheduler.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+    private final ListChangeListener<Appointment> appointmentListener = change -> scheduleNextRun();
+
+    private ScheduledFuture<?> nextRun;
+    /** Time of the next run, or null if no run is scheduled. */
+    private Instant nextRunTime;
+    private boolean isRunning;
+    private boolean isStopped;
+
+    /**
+     * Creates an {@code AutoArchiveScheduler} that archives the appointments of {@code model} when they expire
+     * according to {@code clock}, by running {@link Model#archivePastAppointments()} through {@code modelExecutor}.
+     */
+    public AutoArchiveScheduler(Model model, Clock clock, Executor modelExecutor) {
+        requireAllNonNull(model, clock, modelExecutor);
+        this.model = model;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auto-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the first archive run, and schedules runs again whenever the appointments change. Must be called from
+     * the thread of the model executor.
+     */
+    public synchronized void start() {
+        appointmentList().addListener(appointmentListener);
+        scheduleNextRun();
+    }
+
+    /**
+     * Cancels the next archive run and stops the timer thread. No more runs are scheduled after this.
+     */
+    public synchronized void stop() {
+        isStopped = true;
+        appointmentList().removeListener(appointmentListener);
+        cancelNextRun();
+        timer.shutdownNow();
+    }
+
+    /**
+     * Returns the time of the next archive run, or null if none is scheduled.
+     */
+    synchronized Instant getNextRunTime() {
+        return nextRunTime;
+    }
+
+    /**
+     * Schedules the next archive run for when the earliest appointment expires or the next day starts, whichever is
+     * sooner, unless the run is already scheduled for then.
+     */
+    private synchronized void scheduleNextRun() {
+        if (isStopped || isRunning) {
+            return;
+        }
+
+        ZoneId zone = clock.getZone();
+        Instant startOfNextDay = LocalDate.now(clock).plusDays(1).atStartOfDay(zone).toInstant();
+        Instant runTime = model.getEarliestAppointmentDatetime()
+            .map(datetime -> datetime.plus(ARCHIVE_DELAY).atZone(zone).toInstant())
+            .filter(expiry -> expiry.isBefore(startOfNextDay))
+            .orElse(startOfNextDay);
+        if (runTime.equals(nextRunTime)) {
+            return;
+        }
+
+        cancelNextRun();
+        long delayMillis = Math.max(0, Duration.between(clock.instant(), runTime).toMillis());
+        nextRunTime = runTime;
+        nextRun = timer.schedule(() -> modelExecutor.execute(this::run), delayMillis, TimeUnit.MILLISECONDS);
+        logger.fine("Next auto-archive at " + runTime.atZone(zone));
+    }
+
+    private void cancelNextRun() {
+        if (nextRun != null) {
+            nextRun.cancel(false);
+            nextRun = null;
+        }
+        nextRunTime = null;
+    }
+
+    /**
+     * Archives the appointments that have expired and schedules the next run. Archiving appointments changes the
+     * appointment list, which schedules the next run only once all of them are archived.
+     */
+    private synchronized void run() {
+        if (isStopped) {
+            return;
+        }
+        nextRun = null;
+        nextRunTime = null;
+        isRunning = true;
+        try {
+            model.archivePastAppointments();
+        } finally {
+            isRunning = false;
+        }
+        scheduleNextRun();
+    }
+
+    private ObservableList<Appointment> appointmentList() {
+        return model.getAppointmentBook().getAppointmentList();
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.docit.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.docit.model.exceptions.EditConflictException;
+
+/**
+ * A history of the changes made to the data of a model, grouped into steps that are undone and redone as a whole.
+ * <p>
+ * Edits are recorded into the current step until it is committed, e.g. once a command has been executed. Only the
+ * latest {@code limit} steps are kept. Making a new step discards the steps that were undone.
+ */
+class EditHistory {
+
+    private final int limit;
+    private final Deque<List<UndoableEdit>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<UndoableEdit>> redoSteps = new ArrayDeque<>();
+    private List<UndoableEdit> currentStep = new ArrayList<>();
+    private boolean isRecording = true;
+
+    /**
+     * Creates an {@code EditHistory} that keeps at most {@code limit} steps.
+     */
+    EditHistory(int limit) {
+        checkArgument(limit > 0, "The history must keep at least one step.");
+        this.limit = limit;
+    }
+
+    /**
+     * Adds {@code edit} to the current step, unless recording is paused.
+     */
+    void record(UndoableEdit edit) {
+        requireNonNull(edit);
+        if (isRecording) {
+            currentStep.add(edit);
+        }
+    }
+
+    /**
+     * Runs {@code change} without recording the edits it makes.
+     */
+    void runUnrecorded(Runnable change) {
+        boolean wasRecording = isRecording;
+        isRecording = false;
+        try {
+            change.run();
+        } finally {
+            isRecording = wasRecording;
+        }
+    }
+
+    /**
+     * Ends the current step, unless no edits were recorded in it.
+     */
+    void commit() {
+        if (currentStep.isEmpty()) {
+            return;
+        }
+        undoSteps.push(currentStep);
+        if (undoSteps.size() > limit) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        currentStep = new ArrayList<>();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step that was not undone. The current step must have been committed. If any edit of the
+     * step cannot be undone, the edits of the step that were undone are redone, and the step is kept.
+     *
+     * @throws EditConflictException if the step cannot be undone.
+     */
+    void undo() {
+        assert canUndo() && currentStep.isEmpty();
+        List<UndoableEdit> step = undoSteps.peek();
+        runUnrecorded(() -> undoAll(step));
+        redoSteps.push(undoSteps.pop());
+    }
+
+    /**
+     * Redoes the latest step that was undone. If any edit of the step cannot be redone, the edits of the step that
+     * were redone are undone, and the step is kept.
+     *
+     * @throws EditConflictException if the step cannot be redone.
+     */
+    void redo() {
+        assert canRedo() && currentStep.isEmpty();
+        List<UndoableEdit> step = redoSteps.peek();
+        runUnrecorded(() -> redoAll(step));
+        undoSteps.push(redoSteps.pop());
+    }
+
+    /**
+     * Undoes the edits of {@code step} in reverse order, all or none of them.
+     */
+    private static void undoAll(List<UndoableEdit> step) {
+        int undone = step.size();
+        try {
+            while (undone > 0) {
+                step.get(undone - 1).undo();
+                undone--;
+            }
+        } catch (RuntimeException e) {
+            for (int i = undone; i < step.size(); i++) {
+                step.get(i).redo();
+            }
+            throw new EditConflictException(e);
+        }
+    }
+
+    /**
+     * Redoes the edits of {@code step} in order, all or none of them.
+     */
+    private static void redoAll(List<UndoableEdit> step) {
+        int redone = 0;
+        try {
+            while (redone < step.size()) {
+                step.get(redone).redo();
+                redone++;
+            }
+        } catch (RuntimeException e) {
+            for (int i = redone - 1; i >= 0; i--) {
+                step.get(i).undo();
+            }
+            throw new EditConflictException(e);
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package seedu.docit.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.GuiSettings;
 import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.exceptions.EditConflictException;
 import seedu.docit.model.patient.Patient;
 import seedu.docit.model.prescription.Prescription;
 
 /**
  * The API of the Model component.
+ * <p>
+ * A model is not thread-safe. In the app, it is only used on the thread of the {@link ModelExecutor}.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -85,11 +93,20 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered patient list to filter by the given {@code predicate}.
+     * The filtered patients are shown in their order in the address book.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered patient list to filter by the given {@code predicate}, and shows the
+     * filtered patients in the order given by {@code comparator}.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator);
+
     /**
      * Returns the user prefs' appointment Book file path.
      */
@@ -194,6 +211,17 @@ public interface Model {
      */
     public void editPrescription(int index, Prescription p);
 
+    /**
+     * Returns the appointments from {@code from} inclusive to {@code to} exclusive, in order of datetime.
+     */
+    List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the datetime of the earliest appointment in the appointment book, or an empty Optional if there are no
+     * appointments.
+     */
+    Optional<LocalDateTime> getEarliestAppointmentDatetime();
+
     /**
      * Returns an unmodifiable view of the filtered appointment list
      */
@@ -216,8 +244,67 @@ public interface Model {
      */
     void archivePastAppointments();
 
+    /**
+     * Starts archiving each appointment as soon as it is 1-day past its scheduled date, by running
+     * {@link #archivePastAppointments()} through {@code modelExecutor}. The model must only be changed by the thread
+     * or threads that {@code modelExecutor} runs tasks on.
+     */
+    void startAutoArchive(Executor modelExecutor);
+
+    /**
+     * Stops archiving appointments automatically. Does nothing if it was not started.
+     */
+    void stopAutoArchive();
+
     /**
      * Deletes all records of patients, appointments, and archived appointments.
      */
     void clearAllRecords();
+
+    /**
+     * Ends the current step of changes to the books. The changes made since the previous step ended are undone and
+     * redone together.
+     */
+    void commitChanges();
+
+    /**
+     * Returns true if there is a step of changes that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone step of changes that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest step of changes that was not undone. There must be such a step.
+     *
+     * @throws EditConflictException if the data the step changed has since been changed by auto-archiving.
+     */
+    void undo();
+
+    /**
+     * Redoes the latest step of changes that was undone. There must be such a step.
+     *
+     * @throws EditConflictException if the data the step changed has since been changed by auto-archiving.
+     */
+    void redo();
+
+    /**
+     * Returns a counter that changes whenever the address book data is modified.
+     * The data that the model is created with is version 0 of each book.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns a counter that changes whenever the appointment book data, or anything it refers to, is modified.
+     */
+    long getAppointmentBookVersion();
+
+    /**
+     * Returns a counter that changes whenever the archived appointment book data, or anything it refers to, is
+     * modified.
+     */
+    long getArchivedAppointmentBookVersion();
 }
@@ -0,0 +1,106 @@
+package seedu.docit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.util.StringUtil;
+
+/**
+ * Runs the tasks that read or change the model one at a time, in the order they are submitted, on a single model
+ * thread.
+ * <p>
+ * The model is not thread-safe. Commands, auto-archiving and any other job that changes the model are handed to the
+ * {@code ModelExecutor} instead of changing the model themselves, so the model only ever has one writer and needs no
+ * locks. Listeners of the model's lists are called on the model thread, so the UI shows copies of the lists that are
+ * changed on the JavaFX application thread instead of the model's lists themselves.
+ */
+public class ModelExecutor implements Executor {
+
+    public static final String THREAD_NAME = "model";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final Logger logger = LogsCenter.getLogger(ModelExecutor.class);
+
+    private final ExecutorService executor;
+    private volatile Thread modelThread;
+
+    /**
+     * Creates a {@code ModelExecutor} with its own model thread.
+     */
+    public ModelExecutor() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            modelThread = thread;
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code task} to run on the model thread after the tasks already queued. Exceptions thrown by the task
+     * are logged, and do not stop the tasks after it from running.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if this executor has been shut down.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.severe("Model task failed: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Queues {@code task} to run on the model thread after the tasks already queued, and returns a future that is
+     * completed on the model thread with the result of the task, or with the exception it throws.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if this executor has been shut down.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns true if the current thread is the model thread.
+     */
+    public boolean isModelThread() {
+        return Thread.currentThread() == modelThread;
+    }
+
+    /**
+     * Stops accepting tasks, and waits for the tasks already queued to finish, for up to
+     * {@value #SHUTDOWN_TIMEOUT_SECONDS} seconds. Must not be called from the model thread.
+     */
+    public void shutdown() {
+        assert !isModelThread();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Model tasks did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,19 +6,18 @@ import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.docit.commons.core.GuiSettings;
 import seedu.docit.commons.core.LogsCenter;
 import seedu.docit.model.appointment.Appointment;
@@ -29,66 +28,99 @@ import seedu.docit.model.prescription.Prescription;
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** Number of steps of changes that can be undone. */
+    public static final int HISTORY_LIMIT = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private static final int UPDATE_HOUR = 5;
 
     private final AddressBook addressBook;
     private final AppointmentBook appointmentBook;
     private final ArchivedAppointmentBook archivedAppointmentBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
+    private final SortedList<Patient> sortedPatients;
+    private final SortedList<Appointment> sortedAppointments;
     private final FilteredList<Appointment> filteredAppointments;
+    private final Clock clock;
+    private final EditHistory history = new EditHistory(HISTORY_LIMIT);
+    private AutoArchiveScheduler autoArchiveScheduler;
+
+    private long addressBookVersion;
+    private long appointmentBookVersion;
+    private long archivedAppointmentBookVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook, appointmentBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyAppointmentBook appointmentBook,
         ReadOnlyAppointmentBook archivedAppointmentBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, appointmentBook, archivedAppointmentBook, userPrefs, Clock.system(Appointment.CLINIC_ZONE));
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, appointmentBook and userPrefs, that reads the current
+     * time from {@code clock} to archive past appointments. Appointment datetimes are taken to be in the zone of
+     * {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyAppointmentBook appointmentBook,
+        ReadOnlyAppointmentBook archivedAppointmentBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        this(new AddressBook(addressBook), new AppointmentBook(appointmentBook),
+            new ArchivedAppointmentBook(archivedAppointmentBook), userPrefs, clock);
+    }
+
+    public ModelManager() {
+        this(new AddressBook(), new AppointmentBook(), new AppointmentBook(), new UserPrefs());
+    }
+
+    /**
+     * Initializes a ModelManager that keeps the given books as its own, instead of copies of them.
+     */
+    private ModelManager(AddressBook addressBook, AppointmentBook appointmentBook,
+        ArchivedAppointmentBook archivedAppointmentBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
         super();
-        requireAllNonNull(addressBook, appointmentBook, archivedAppointmentBook, userPrefs);
+        requireAllNonNull(addressBook, appointmentBook, archivedAppointmentBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " appointment book: " + appointmentBook + " and "
             + "archived appointment book: " + archivedAppointmentBook + "and" + "user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.appointmentBook = new AppointmentBook(appointmentBook);
-        this.archivedAppointmentBook = new ArchivedAppointmentBook(archivedAppointmentBook);
+        this.addressBook = addressBook;
+        this.appointmentBook = appointmentBook;
+        this.archivedAppointmentBook = archivedAppointmentBook;
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
 
         filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
-        filteredAppointments = new FilteredList<>(this.appointmentBook.getAppointmentList());
+        sortedPatients = new SortedList<>(filteredPatients);
+        sortedAppointments = new SortedList<>(this.appointmentBook.getAppointmentList());
+        filteredAppointments = new FilteredList<>(sortedAppointments);
+        updateAppointmentOrder();
 
-        initAutoArchive();
-    }
+        archivePastAppointments();
 
-    public ModelManager() {
-        this(new AddressBook(), new AppointmentBook(), new AppointmentBook(), new UserPrefs());
+        // Undoing and redoing edits changes the books, which must then be saved. Address book edits may change the
+        // IDs of patients, which the appointment books are saved with.
+        this.addressBook.setEditListener(edit -> history.record(edit.andThen(this::markAddressBookReplaced)));
+        this.appointmentBook.setEditListener(edit -> history.record(edit.andThen(() -> appointmentBookVersion++)));
+        this.archivedAppointmentBook.setEditListener(edit ->
+                history.record(edit.andThen(() -> archivedAppointmentBookVersion++)));
     }
 
     /**
-     * Sets up scheduler to auto-archive past appointments
+     * Returns a ModelManager with the given books and userPrefs, that keeps the books as its own instead of copying
+     * them, so that a large book loaded from storage is not held in memory twice. The books must not be used by the
+     * caller afterwards. Books that are not modifiable books of the expected type are copied.
      */
-    private void initAutoArchive() {
-        // @@author joshenx-reused
-        // Reused from https://stackoverflow.com/a/20388073
-        // with minor modifications. Runnable class AutoArchiveAmpts is newly implemented.
-        archivePastAppointments();
-
-        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Singapore"));
-        ZonedDateTime nextRun = now.withHour(UPDATE_HOUR).withMinute(0).withSecond(0);
-        if (now.compareTo(nextRun) > 0) {
-            nextRun = nextRun.plusDays(1);
-        }
-
-        Duration duration = Duration.between(now, nextRun);
-        long initialDelay = duration.getSeconds();
-
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        scheduler.scheduleAtFixedRate(new AutoArchiveApmts(this),
-                initialDelay,
-                TimeUnit.DAYS.toSeconds(1),
-                TimeUnit.SECONDS);
-        // @@author
+    public static ModelManager ofOwnedBooks(ReadOnlyAddressBook addressBook, ReadOnlyAppointmentBook appointmentBook,
+        ReadOnlyAppointmentBook archivedAppointmentBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, appointmentBook, archivedAppointmentBook, userPrefs);
+        return new ModelManager(
+            addressBook instanceof AddressBook ? (AddressBook) addressBook : new AddressBook(addressBook),
+            appointmentBook instanceof AppointmentBook
+                ? (AppointmentBook) appointmentBook : new AppointmentBook(appointmentBook),
+            archivedAppointmentBook instanceof ArchivedAppointmentBook
+                ? (ArchivedAppointmentBook) archivedAppointmentBook
+                : new ArchivedAppointmentBook(archivedAppointmentBook),
+            userPrefs, Clock.system(Appointment.CLINIC_ZONE));
     }
 
     //=========== UserPrefs ==================================================================================
@@ -97,6 +129,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        updateAppointmentOrder();
     }
 
     @Override
@@ -142,6 +175,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        markAddressBookReplaced();
     }
 
     @Override
@@ -158,11 +192,13 @@ public class ModelManager implements Model {
     @Override
     public void deletePatient(Patient target) {
         addressBook.removePatient(target);
+        addressBookVersion++;
     }
 
     @Override
     public void addPatient(Patient patient) {
         addressBook.addPatient(patient);
+        addressBookVersion++;
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
     }
 
@@ -171,6 +207,17 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPatient);
 
         addressBook.setPatient(target, editedPatient);
+        addressBookVersion++;
+    }
+
+    /**
+     * Records a change to the address book that may give existing patients new IDs. Appointment books are stored
+     * with references to patient IDs, so they are considered modified as well.
+     */
+    private void markAddressBookReplaced() {
+        addressBookVersion++;
+        appointmentBookVersion++;
+        archivedAppointmentBookVersion++;
     }
 
     //=========== Filtered Patient List Accessors =============================================================
@@ -181,13 +228,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+        return sortedPatients;
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
         filteredPatients.setPredicate(predicate);
+        sortedPatients.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPatients.setPredicate(predicate);
+        sortedPatients.setComparator(comparator);
     }
 
     //=========== AppointmentBook ================================================================================
@@ -195,6 +250,7 @@ public class ModelManager implements Model {
     @Override
     public void setAppointmentBook(ReadOnlyAppointmentBook appointmentBook) {
         this.appointmentBook.resetData(appointmentBook);
+        appointmentBookVersion++;
     }
 
     @Override
@@ -203,6 +259,8 @@ public class ModelManager implements Model {
 
         appointmentBook.updatePatient(target, editedPatient);
         archivedAppointmentBook.updatePatient(target, editedPatient);
+        appointmentBookVersion++;
+        archivedAppointmentBookVersion++;
     }
 
     @Override
@@ -211,6 +269,8 @@ public class ModelManager implements Model {
 
         appointmentBook.removePatient(target);
         archivedAppointmentBook.removePatient(target);
+        appointmentBookVersion++;
+        archivedAppointmentBookVersion++;
     }
 
     @Override
@@ -238,11 +298,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteAppointment(Appointment target) {
         appointmentBook.removeAppointment(target);
+        appointmentBookVersion++;
     }
 
     @Override
     public void addAppointment(Appointment appointment) {
         appointmentBook.addAppointment(appointment);
+        appointmentBookVersion++;
         updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
@@ -250,21 +312,42 @@ public class ModelManager implements Model {
     public void archiveAppointment(Appointment target) {
         appointmentBook.removeAppointment(target);
         archivedAppointmentBook.addAppointment(target);
+        appointmentBookVersion++;
+        archivedAppointmentBookVersion++;
     }
 
     @Override
     public void archivePastAppointments() {
-        ArrayList<Appointment> appointmentsToArchive = new ArrayList<>();
-        ObservableList<Appointment> appointmentList = appointmentBook.getAppointmentList();
-
-        for (Appointment appointment : appointmentList) {
-            if (isExpired(appointment)) {
-                appointmentsToArchive.add(appointment);
-            }
+        // Expired appointments are those at or before the cutoff, so the range ends just after it.
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(AutoArchiveScheduler.ARCHIVE_DELAY);
+        List<Appointment> appointmentsToArchive = appointmentBook.getAppointmentsBetween(LocalDateTime.MIN,
+                cutoff.plusNanos(1));
+        if (!appointmentsToArchive.isEmpty()) {
+            // Archiving is not a change the user made, so it is not undone with the user's changes.
+            history.runUnrecorded(() -> {
+                appointmentBook.removeAppointments(appointmentsToArchive);
+                appointmentsToArchive.forEach(archivedAppointmentBook::addAppointment);
+            });
+            appointmentBookVersion++;
+            archivedAppointmentBookVersion++;
         }
+        // Appointments that were today are no longer ordered first once the day is over.
+        updateAppointmentOrder();
+    }
 
-        for (Appointment appointmentToArchive : appointmentsToArchive) {
-            archiveAppointment(appointmentToArchive);
+    @Override
+    public synchronized void startAutoArchive(Executor modelExecutor) {
+        requireNonNull(modelExecutor);
+        stopAutoArchive();
+        autoArchiveScheduler = new AutoArchiveScheduler(this, clock, modelExecutor);
+        autoArchiveScheduler.start();
+    }
+
+    @Override
+    public synchronized void stopAutoArchive() {
+        if (autoArchiveScheduler != null) {
+            autoArchiveScheduler.stop();
+            autoArchiveScheduler = null;
         }
     }
 
@@ -273,34 +356,34 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedAppointment);
 
         appointmentBook.setAppointment(target, editedAppointment);
+        appointmentBookVersion++;
     }
 
     @Override
     public void sortAppointments() {
-        appointmentBook.sortAppointments();
+        if (!userPrefs.isAppointmentsAlwaysSorted()) {
+            appointmentBook.sortAppointments();
+            appointmentBookVersion++;
+        }
         updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
     }
 
     @Override
     public void addPrescription(Appointment target, Prescription p) {
-        Set<Prescription> nextPrescription = target.getPrescriptions();
-        nextPrescription.add(p);
-
-        Appointment editedAppt = new Appointment(target.getPatient(), target.getDatetime(), nextPrescription);
-        appointmentBook.setAppointment(target, editedAppt);
+        appointmentBook.setAppointment(target, target.withPrescription(p));
+        appointmentBookVersion++;
     }
 
     @Override
     public void deletePrescription(Appointment target, String medicine) {
-        target.deletePrescription(medicine);
-        Set<Prescription> nextPrescription = target.getPrescriptions();
-        Appointment editedAppt = new Appointment(target.getPatient(), target.getDatetime(), nextPrescription);
-        appointmentBook.setAppointment(target, editedAppt);
+        appointmentBook.setAppointment(target, target.withoutPrescription(medicine));
+        appointmentBookVersion++;
     }
 
     @Override
     public void editPrescription(int index, Prescription p) {
         appointmentBook.editPrescription(index, p);
+        appointmentBookVersion++;
     }
 
     //=========== ArchivedAppointmentBook =======================================================================
@@ -308,6 +391,7 @@ public class ModelManager implements Model {
     @Override
     public void setArchivedAppointmentBook(ReadOnlyAppointmentBook appointmentBook) {
         this.archivedAppointmentBook.resetData(appointmentBook);
+        archivedAppointmentBookVersion++;
     }
 
     /**
@@ -317,12 +401,11 @@ public class ModelManager implements Model {
      * @return true if appointment is past its scheduled time.
      */
     public boolean isExpired(Appointment appointment) {
-        Clock cl = Clock.systemUTC();
-        LocalDateTime now = LocalDateTime.now(cl);
+        LocalDateTime now = LocalDateTime.now(clock);
         LocalDateTime apptTime = appointment.getDatetime();
         Duration duration = Duration.between(apptTime, now);
 
-        return duration.toDays() >= 1;
+        return duration.compareTo(AutoArchiveScheduler.ARCHIVE_DELAY) >= 0;
     }
 
     @Override
@@ -342,6 +425,46 @@ public class ModelManager implements Model {
         this.setAddressBook(new AddressBook());
     }
 
+    @Override
+    public void commitChanges() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        history.undo();
+    }
+
+    @Override
+    public void redo() {
+        history.redo();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public long getAppointmentBookVersion() {
+        return appointmentBookVersion;
+    }
+
+    @Override
+    public long getArchivedAppointmentBookVersion() {
+        return archivedAppointmentBookVersion;
+    }
+
     /**
      * Returns an unmodifiable view of the list of archived {@code Appointment}s.
      */
@@ -350,6 +473,17 @@ public class ModelManager implements Model {
         return archivedAppointmentBook.getAppointmentList();
     }
 
+    @Override
+    public List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return appointmentBook.getAppointmentsBetween(from, to);
+    }
+
+    @Override
+    public Optional<LocalDateTime> getEarliestAppointmentDatetime() {
+        return appointmentBook.getEarliestAppointmentDatetime();
+    }
+
     //=========== Filtered Appointment List Accessors =============================================================
 
     /**
@@ -367,6 +501,18 @@ public class ModelManager implements Model {
         filteredAppointments.setPredicate(predicate);
     }
 
+    /**
+     * Orders the filtered appointment list by {@link Appointment#orderOn(LocalDate)} today if the user prefers
+     * appointments to be always sorted, or by their order in the appointment book otherwise. A sorted list places
+     * added and edited appointments in order as they change, instead of sorting the whole list again.
+     */
+    private void updateAppointmentOrder() {
+        // A new comparator makes the list sort itself again, even if appointments were already sorted.
+        sortedAppointments.setComparator(userPrefs.isAppointmentsAlwaysSorted()
+            ? Appointment.orderOn(LocalDate.now(clock))
+            : null);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -383,7 +529,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPatients.equals(other.filteredPatients)
+                && sortedPatients.equals(other.sortedPatients)
                 && appointmentBook.equals(other.appointmentBook)
                 && archivedAppointmentBook.equals(other.archivedAppointmentBook)
                 && filteredAppointments.equals(other.filteredAppointments);
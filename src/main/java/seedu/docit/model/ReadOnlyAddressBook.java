@@ -1,8 +1,13 @@
 package seedu.docit.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.index.Index;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 
 /**
  * Unmodifiable view of an address book
@@ -24,4 +29,33 @@ public interface ReadOnlyAddressBook {
      */
     Index getIndexOfPatient(Patient patient);
 
+    /**
+     * Returns patient with the given ID or null if not exist.
+     */
+    Patient getPatientOfId(PatientId id);
+
+    /**
+     * Returns ID of patient in the list or null if not exist.
+     */
+    PatientId getIdOfPatient(Patient patient);
+
+    /**
+     * Returns IDs of patients whose name or medical history contains any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    Set<PatientId> findPatientIds(Collection<String> keywords);
+
+    /**
+     * Returns IDs of at most {@code limit} patients whose names best match {@code keywords} by whole word, prefix or
+     * spelling, best match first.
+     */
+    List<PatientId> findClosestPatientIds(Collection<String> keywords, int limit);
+
+    /**
+     * Returns an unmodifiable copy of this address book that later changes to it do not affect.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this);
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.docit.model;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.docit.model.appointment.Appointment;
 
@@ -13,4 +14,14 @@ public interface ReadOnlyAppointmentBook {
      * This list will not contain any duplicate appointment.
      */
     ObservableList<Appointment> getAppointmentList();
+
+    /**
+     * Returns an unmodifiable copy of this appointment book that later changes to it do not affect.
+     * The copy shares the immutable appointments with this appointment book.
+     */
+    default ReadOnlyAppointmentBook snapshot() {
+        ObservableList<Appointment> appointments =
+            FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getAppointmentList()));
+        return () -> appointments;
+    }
 }
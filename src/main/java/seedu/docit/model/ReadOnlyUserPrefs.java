@@ -3,6 +3,7 @@ package seedu.docit.model;
 import java.nio.file.Path;
 
 import seedu.docit.commons.core.GuiSettings;
+import seedu.docit.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getSaveDelayMillis();
+
+    StorageFormat getStorageFormat();
+
+    StorageFormat getArchivedStorageFormat();
+
+    boolean isAppointmentsAlwaysSorted();
+
 }
@@ -0,0 +1,62 @@
+package seedu.docit.model;
+
+/**
+ * A recorded change to the data of the model that can be undone and redone.
+ * <p>
+ * An edit only holds the data it changed, e.g. the patient it removed and where it was, so that recording a long
+ * history of changes to a large book takes memory in proportion to the changes rather than to the book.
+ */
+public interface UndoableEdit {
+
+    /**
+     * Reverts the change. The data must be as the change left it, apart from changes that were not recorded.
+     *
+     * @throws RuntimeException if the change cannot be reverted because the data it changed is no longer there.
+     */
+    void undo();
+
+    /**
+     * Makes the change again. The data must be as it was before the change, apart from changes that were not
+     * recorded.
+     *
+     * @throws RuntimeException if the change cannot be made again because the data it changed is no longer there.
+     */
+    void redo();
+
+    /**
+     * Returns an edit that undoes and redoes this edit, and runs {@code afterChange} after each time it does.
+     */
+    default UndoableEdit andThen(Runnable afterChange) {
+        UndoableEdit edit = this;
+        return new UndoableEdit() {
+            @Override
+            public void undo() {
+                edit.undo();
+                afterChange.run();
+            }
+
+            @Override
+            public void redo() {
+                edit.redo();
+                afterChange.run();
+            }
+        };
+    }
+
+    /**
+     * Returns an edit that is undone by running {@code undo} and redone by running {@code redo}.
+     */
+    static UndoableEdit of(Runnable undo, Runnable redo) {
+        return new UndoableEdit() {
+            @Override
+            public void undo() {
+                undo.run();
+            }
+
+            @Override
+            public void redo() {
+                redo.run();
+            }
+        };
+    }
+}
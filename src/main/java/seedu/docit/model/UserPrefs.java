@@ -1,12 +1,14 @@
 package seedu.docit.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.docit.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.docit.commons.core.GuiSettings;
+import seedu.docit.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -17,6 +19,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path appointmentBookFilePath = Paths.get("data" , "appointmentbook.json");
     private Path archivedAppointmentBookFilePath = Paths.get("data" , "archivedappointmentbook.json");
+    private long saveDelayMillis = 500;
+    private StorageFormat storageFormat = StorageFormat.COMPACT;
+    private StorageFormat archivedStorageFormat = StorageFormat.GZIP;
+    private boolean appointmentsAlwaysSorted = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +44,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setArchivedStorageFormat(newUserPrefs.getArchivedStorageFormat());
+        setAppointmentsAlwaysSorted(newUserPrefs.isAppointmentsAlwaysSorted());
     }
 
     public GuiSettings getGuiSettings() {
@@ -76,6 +86,49 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.archivedAppointmentBookFilePath = archivedAppointmentBookFilePath;
     }
 
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    /**
+     * Sets the longest time a change may wait before it is written to disk.
+     * A delay of 0 writes every change to disk before the command that made it completes.
+     */
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay cannot be negative.");
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public StorageFormat getArchivedStorageFormat() {
+        return archivedStorageFormat;
+    }
+
+    public void setArchivedStorageFormat(StorageFormat archivedStorageFormat) {
+        requireNonNull(archivedStorageFormat);
+        this.archivedStorageFormat = archivedStorageFormat;
+    }
+
+    public boolean isAppointmentsAlwaysSorted() {
+        return appointmentsAlwaysSorted;
+    }
+
+    /**
+     * Sets whether appointments are always shown in sorted order, rather than in the order they were added until
+     * they are sorted.
+     */
+    public void setAppointmentsAlwaysSorted(boolean appointmentsAlwaysSorted) {
+        this.appointmentsAlwaysSorted = appointmentsAlwaysSorted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -88,12 +141,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && saveDelayMillis == o.saveDelayMillis
+                && storageFormat == o.storageFormat
+                && archivedStorageFormat == o.archivedStorageFormat
+                && appointmentsAlwaysSorted == o.appointmentsAlwaysSorted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveDelayMillis, storageFormat, archivedStorageFormat,
+                appointmentsAlwaysSorted);
     }
 
     @Override
@@ -101,6 +159,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nArchived storage format : " + archivedStorageFormat);
+        sb.append("\nAppointments always sorted : " + appointmentsAlwaysSorted);
         return sb.toString();
     }
 
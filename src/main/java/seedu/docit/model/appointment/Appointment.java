@@ -1,13 +1,19 @@
 package seedu.docit.model.appointment;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,29 +32,38 @@ public class Appointment implements Comparable<Appointment> {
     public static final DateTimeFormatter UI_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy HHmm");
     public static final DateTimeFormatter UI_DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
     public static final DateTimeFormatter UI_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    /** Time zone of the clinic, which decides the appointments that are today. */
+    public static final ZoneId CLINIC_ZONE = ZoneId.of("Singapore");
 
     // Identity fields
     private final Patient patient;
     private final LocalDateTime datetime;
 
     // Data fields
-    private Set<Prescription> prescriptions = new HashSet<>();
+    /** Prescriptions keyed by medicine, in the order they were added. Never changed once set. */
+    private final Map<String, Prescription> prescriptions;
 
     /**
      * Every field must be present and not null.
      */
     public Appointment(Patient patient, LocalDateTime datetime) {
-        this(patient, datetime, new HashSet<>());
+        this(patient, datetime, Collections.emptyMap());
     }
 
     /**
      * Every field must be present and not null.
+     *
+     * @throws DuplicatePrescriptionException if two prescriptions are for the same medicine.
      */
-    public Appointment(Patient patient, LocalDateTime datetime, Set<Prescription> prescriptionList) {
+    public Appointment(Patient patient, LocalDateTime datetime, Collection<Prescription> prescriptionList) {
+        this(patient, datetime, toMap(prescriptionList));
+    }
+
+    private Appointment(Patient patient, LocalDateTime datetime, Map<String, Prescription> prescriptions) {
         requireAllNonNull(patient, datetime);
         this.patient = patient;
         this.datetime = datetime;
-        this.prescriptions.addAll(prescriptionList);
+        this.prescriptions = prescriptions;
     }
 
     public Patient getPatient() {
@@ -59,57 +74,60 @@ public class Appointment implements Comparable<Appointment> {
         return datetime;
     }
 
+    /**
+     * Returns an immutable set of the prescriptions of this appointment.
+     */
     public Set<Prescription> getPrescriptions() {
-        return prescriptions;
-    }
-
-    public void resetPrescriptions() {
-        prescriptions = new HashSet<>();
+        return new PrescriptionSet(prescriptions);
     }
 
     /**
-     * Adds a prescription into the appointment.
-     * @param prescription prescription to be added.
-     * @throws DuplicatePrescriptionException if prescription already exists.
+     * Returns a copy of this appointment with {@code prescription} added.
+     *
+     * @throws DuplicatePrescriptionException if there is already a prescription for the same medicine.
      */
-    public void addPrescription(Prescription prescription) {
-        for (Prescription p : prescriptions) {
-            if (p.getMedicine().equals(prescription.getMedicine())) {
-                throw new DuplicatePrescriptionException();
-            }
+    public Appointment withPrescription(Prescription prescription) {
+        requireNonNull(prescription);
+        if (containsPrescription(prescription)) {
+            throw new DuplicatePrescriptionException();
         }
-        this.prescriptions.add(prescription);
-        Set<Prescription> p = new HashSet<>();
-        p.addAll(prescriptions);
-        this.prescriptions = p;
+        Map<String, Prescription> editedPrescriptions = new LinkedHashMap<>(prescriptions);
+        editedPrescriptions.put(prescription.getMedicine(), prescription);
+        return new Appointment(patient, datetime, Collections.unmodifiableMap(editedPrescriptions));
     }
 
     /**
-     * Removes a prescription from an appointment.
-     * @param medicineName medicine name of prescription to be removed.
-     * @throws MedicineNotFoundException if no such medicine exists.
+     * Returns a copy of this appointment without the prescription for {@code medicineName}.
+     *
+     * @throws MedicineNotFoundException if there is no prescription for the medicine.
      */
-    public void deletePrescription(String medicineName) throws MedicineNotFoundException {
-        if (!this.prescriptions.removeIf(p -> p.hasSameMedicalName(
-                new Prescription(medicineName, "default", "default")))) {
+    public Appointment withoutPrescription(String medicineName) throws MedicineNotFoundException {
+        String medicine = medicineName.toLowerCase();
+        if (!prescriptions.containsKey(medicine)) {
             throw new MedicineNotFoundException();
         }
-        Set<Prescription> p = new HashSet<>();
-        p.addAll(prescriptions);
-        this.prescriptions = p;
+        if (prescriptions.size() == 1) {
+            return new Appointment(patient, datetime);
+        }
+        Map<String, Prescription> editedPrescriptions = new LinkedHashMap<>(prescriptions);
+        editedPrescriptions.remove(medicine);
+        return new Appointment(patient, datetime, Collections.unmodifiableMap(editedPrescriptions));
     }
 
     /**
-     * Edits the prescription associated with this Appointment
-     * @param prescription Prescription to be edited
-     * @throws MedicineNotFoundException when the prescription cannot be found.
+     * Returns a copy of this appointment with the prescription for the medicine of {@code prescription} replaced by
+     * {@code prescription}.
+     *
+     * @throws MedicineNotFoundException if there is no prescription for the medicine.
      */
-    public void editPrescription(Prescription prescription) throws MedicineNotFoundException {
-        deletePrescription(prescription.getMedicine());
-        this.prescriptions.add(prescription);
-        Set<Prescription> p = new HashSet<>();
-        p.addAll(prescriptions);
-        this.prescriptions = p;
+    public Appointment withEditedPrescription(Prescription prescription) throws MedicineNotFoundException {
+        requireNonNull(prescription);
+        if (!containsPrescription(prescription)) {
+            throw new MedicineNotFoundException();
+        }
+        Map<String, Prescription> editedPrescriptions = new LinkedHashMap<>(prescriptions);
+        editedPrescriptions.put(prescription.getMedicine(), prescription);
+        return new Appointment(patient, datetime, Collections.unmodifiableMap(editedPrescriptions));
     }
 
     public String getFormattedDatetimeString() {
@@ -134,16 +152,26 @@ public class Appointment implements Comparable<Appointment> {
      * @return True or false
      */
     public boolean containsPrescription(Prescription p) {
-        for (Prescription prescription: prescriptions) {
-            if (prescription.getMedicine().equals(p.getMedicine())) {
-                return true;
-            }
-        }
-        return false;
+        return prescriptions.containsKey(p.getMedicine());
     }
 
     public boolean isToday() {
-        return getDatetime().toLocalDate().equals(LocalDate.now(ZoneId.of("Singapore")));
+        return isOn(LocalDate.now(CLINIC_ZONE));
+    }
+
+    /**
+     * Returns true if the appointment is on {@code date}.
+     */
+    public boolean isOn(LocalDate date) {
+        return datetime.toLocalDate().equals(date);
+    }
+
+    /**
+     * Returns true if the appointment is on a day from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public boolean isBetween(LocalDate startDate, LocalDate endDate) {
+        LocalDate date = datetime.toLocalDate();
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
     }
 
     /**
@@ -175,7 +203,7 @@ public class Appointment implements Comparable<Appointment> {
 
         Appointment otherAppointment = (Appointment) other;
         return isSameAppointment(otherAppointment)
-            && otherAppointment.getPrescriptions().equals(getPrescriptions());
+            && otherAppointment.prescriptions.equals(prescriptions);
     }
 
 
@@ -191,11 +219,73 @@ public class Appointment implements Comparable<Appointment> {
             + "; " + "Prescription: " + getPrescriptions() + "\n";
     }
 
+    /**
+     * Orders appointments today first, then by ascending datetime, then by patient.
+     * Prefer {@link #orderOn(LocalDate)} for sorting, as this reads the clock on every comparison.
+     */
     @Override
     public int compareTo(Appointment o) {
-        return Comparator.comparing(Appointment::isToday).reversed()
-                .thenComparing(Appointment::getDatetime)
-                .thenComparing(Appointment::getPatient)
-                .compare(this, o);
+        return compare(this, o, LocalDate.now(CLINIC_ZONE));
+    }
+
+    /**
+     * Returns a comparator that orders appointments as {@link #compareTo(Appointment)} does, taking {@code today} as
+     * the current date. A sort using it reads the clock once, and stays consistent if it runs across midnight.
+     */
+    public static Comparator<Appointment> orderOn(LocalDate today) {
+        requireNonNull(today);
+        return (first, second) -> compare(first, second, today);
+    }
+
+    private static int compare(Appointment first, Appointment second, LocalDate today) {
+        boolean isFirstToday = first.isOn(today);
+        if (isFirstToday != second.isOn(today)) {
+            return isFirstToday ? -1 : 1;
+        }
+        int byDatetime = first.datetime.compareTo(second.datetime);
+        return byDatetime != 0 ? byDatetime : first.patient.compareTo(second.patient);
+    }
+
+    /**
+     * Returns an immutable map of {@code prescriptionList} keyed by medicine.
+     */
+    private static Map<String, Prescription> toMap(Collection<Prescription> prescriptionList) {
+        if (prescriptionList.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Prescription> prescriptions = new LinkedHashMap<>();
+        for (Prescription prescription : prescriptionList) {
+            if (prescriptions.putIfAbsent(prescription.getMedicine(), prescription) != null) {
+                throw new DuplicatePrescriptionException();
+            }
+        }
+        return Collections.unmodifiableMap(prescriptions);
+    }
+
+    /**
+     * An immutable view of the prescriptions of an appointment as a set, which looks prescriptions up by medicine.
+     */
+    private static class PrescriptionSet extends AbstractSet<Prescription> {
+        private final Map<String, Prescription> prescriptions;
+
+        PrescriptionSet(Map<String, Prescription> prescriptions) {
+            this.prescriptions = prescriptions;
+        }
+
+        @Override
+        public Iterator<Prescription> iterator() {
+            return prescriptions.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return prescriptions.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Prescription
+                    && o.equals(prescriptions.get(((Prescription) o).getMedicine()));
+        }
     }
 }
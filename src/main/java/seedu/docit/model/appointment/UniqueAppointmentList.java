@@ -3,13 +3,31 @@ package seedu.docit.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.docit.model.UndoableEdit;
 import seedu.docit.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.docit.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.docit.model.patient.Patient;
 import seedu.docit.model.prescription.Prescription;
 import seedu.docit.model.prescription.exceptions.DuplicatePrescriptionException;
 
@@ -22,6 +40,15 @@ import seedu.docit.model.prescription.exceptions.DuplicatePrescriptionException;
  * removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Three indexes are kept in sync with the backing list: an identity index from each appointment's (patient, datetime)
+ * pair to its position in the list, a multimap from each patient to the datetimes of their appointments, and a
+ * multimap from each datetime to the patients with appointments then, sorted by datetime. These allow identity
+ * checks, the cascading of patient edits and deletions, and lookups of the appointments in a period of time to touch
+ * only the affected appointments.
+ * <p>
+ * Every change to the list is reported to the edit listener as an {@link UndoableEdit} that holds only the
+ * appointments it changed and their positions. The last snapshot taken is reused until the list changes.
  *
  * @see Appointment#isSameAppointment(Appointment)
  */
@@ -30,13 +57,70 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Appointment> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Integer> identityIndex = new HashMap<>();
+    private final Map<Patient, Set<LocalDateTime>> patientIndex = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Patient>> timeIndex = new TreeMap<>();
+    private Consumer<UndoableEdit> editListener = edit -> { };
+    private ObservableList<Appointment> snapshot;
+
+    /**
+     * Reports every later change to the list to {@code editListener}, instead of to the previous listener.
+     */
+    public void setEditListener(Consumer<UndoableEdit> editListener) {
+        this.editListener = requireNonNull(editListener);
+    }
+
+    /**
+     * Forgets the last snapshot, as the list has changed since, and reports {@code edit} to the edit listener.
+     */
+    private void recordEdit(UndoableEdit edit) {
+        snapshot = null;
+        editListener.accept(edit);
+    }
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the appointments of {@code patient} in the order they were added to the list.
+     */
+    public List<Appointment> getAppointmentsOfPatient(Patient patient) {
+        requireNonNull(patient);
+        List<Appointment> appointmentsOfPatient = new ArrayList<>();
+        for (LocalDateTime datetime : patientIndex.getOrDefault(patient, Collections.emptySet())) {
+            appointmentsOfPatient.add(internalList.get(identityIndex.get(new IdentityKey(patient, datetime))));
+        }
+        return appointmentsOfPatient;
+    }
+
+    /**
+     * Returns the appointments from {@code from} inclusive to {@code to} exclusive, in order of datetime. Appointments
+     * at the same datetime are in the order they were added to the list.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Appointment> appointmentsBetween = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return appointmentsBetween;
+        }
+        for (Map.Entry<LocalDateTime, Set<Patient>> entry : timeIndex.subMap(from, true, to, false).entrySet()) {
+            for (Patient patient : entry.getValue()) {
+                appointmentsBetween.add(internalList.get(identityIndex.get(new IdentityKey(patient, entry.getKey()))));
+            }
+        }
+        return appointmentsBetween;
+    }
+
+    /**
+     * Returns the datetime of the earliest appointment in the list, or an empty Optional if the list is empty.
+     */
+    public Optional<LocalDateTime> getEarliestDatetime() {
+        return timeIndex.isEmpty() ? Optional.empty() : Optional.of(timeIndex.firstKey());
     }
 
     /**
@@ -47,7 +131,9 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
+        recordEdit(UndoableEdit.of(() -> remove(toAdd), () -> add(toAdd)));
     }
 
     /**
@@ -58,7 +144,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -67,7 +153,12 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
+        Appointment replaced = internalList.get(index);
+        unindex(replaced);
+        index(editedAppointment, index);
         internalList.set(index, editedAppointment);
+        recordEdit(UndoableEdit.of(
+                () -> setAppointment(editedAppointment, replaced), () -> setAppointment(replaced, editedAppointment)));
     }
 
     /**
@@ -75,14 +166,85 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new AppointmentNotFoundException();
         }
+
+        Appointment removed = internalList.remove(index);
+        unindex(removed);
+        reindexPositionsFrom(index);
+        recordEdit(UndoableEdit.of(
+                () -> insertAll(new int[] {index}, List.of(removed)), () -> remove(removed)));
+    }
+
+    /**
+     * Removes all appointments of {@code patient} from the list in a single pass.
+     */
+    public void removeAppointmentsOfPatient(Patient patient) {
+        requireNonNull(patient);
+        removeAll(getAppointmentsOfPatient(patient));
+    }
+
+    /**
+     * Removes the equivalent appointments of {@code appointments} from the list in a single pass. The appointments
+     * must exist in the list.
+     */
+    public void removeAll(List<Appointment> appointments) {
+        requireNonNull(appointments);
+        if (appointments.isEmpty()) {
+            return;
+        }
+
+        BitSet positionsToRemove = new BitSet(internalList.size());
+        for (Appointment appointment : appointments) {
+            int index = positionOf(appointment);
+            if (index == -1) {
+                throw new AppointmentNotFoundException();
+            }
+            positionsToRemove.set(index);
+        }
+
+        int[] positions = positionsToRemove.stream().toArray();
+        List<Appointment> removed = new ArrayList<>(positions.length);
+        Set<Appointment> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int position : positions) {
+            Appointment appointment = internalList.get(position);
+            removed.add(appointment);
+            toRemove.add(appointment);
+            unindex(appointment);
+        }
+        internalList.removeAll(toRemove);
+        reindexPositionsFrom(positions[0]);
+        recordEdit(UndoableEdit.of(() -> insertAll(positions, removed), () -> removeAll(removed)));
+    }
+
+    /**
+     * Inserts {@code appointments} into the list at {@code positions}, which are in ascending order and are the
+     * positions the appointments have once all of them are inserted. Positions past the end of the list are taken to
+     * be the end of the list. None of the appointments may already exist in the list.
+     */
+    private void insertAll(int[] positions, List<Appointment> appointments) {
+        for (Appointment appointment : appointments) {
+            if (contains(appointment)) {
+                throw new DuplicateAppointmentException();
+            }
+        }
+
+        int firstPosition = internalList.size();
+        for (int i = 0; i < positions.length; i++) {
+            int position = Math.min(positions[i], internalList.size());
+            firstPosition = Math.min(firstPosition, position);
+            index(appointments.get(i), position);
+            internalList.add(position, appointments.get(i));
+        }
+        reindexPositionsFrom(firstPosition);
+        recordEdit(UndoableEdit.of(() -> removeAll(appointments), () -> insertAll(positions, appointments)));
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -95,35 +257,43 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        replaceAll(appointments);
     }
 
     /**
      * Sorts the contents of this list.
      */
     public void sort() {
-        internalList.sort(Appointment::compareTo);
+        List<Appointment> sortedAppointments = new ArrayList<>(internalList);
+        sortedAppointments.sort(Appointment.orderOn(LocalDate.now(Appointment.CLINIC_ZONE)));
+        replaceAll(sortedAppointments);
     }
 
     /**
-     * Adds a prescription to the indexed appointment in the list.
+     * Adds a prescription to the indexed appointment in the list. The appointment is replaced by a copy with the
+     * prescription.
      */
     public void addPrescription(int index, Prescription p) throws DuplicatePrescriptionException {
-        internalList.get(index).addPrescription(p);
+        Appointment target = internalList.get(index);
+        setAppointment(target, target.withPrescription(p));
     }
 
     /**
-     * Removes a prescription from an appointment specified by the index in the list.
+     * Removes a prescription from an appointment specified by the index in the list. The appointment is replaced by
+     * a copy without the prescription.
      */
     public void deletePrescription(int index, String medicine) {
-        internalList.get(index).deletePrescription(medicine);
+        Appointment target = internalList.get(index);
+        setAppointment(target, target.withoutPrescription(medicine));
     }
 
     /**
-     * Edits a prescription from an appointment specified by the index in the list.
+     * Edits a prescription from an appointment specified by the index in the list. The appointment is replaced by a
+     * copy with the edited prescription.
      */
     public void editPrescription(int index, Prescription p) {
-        internalList.get(index).editPrescription(p);
+        Appointment target = internalList.get(index);
+        setAppointment(target, target.withEditedPrescription(p));
     }
 
     /**
@@ -133,6 +303,17 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an unmodifiable copy of the backing list that later changes to this list do not affect. The copy is
+     * only made again after the list has changed.
+     */
+    public ObservableList<Appointment> asUnmodifiableSnapshot() {
+        if (snapshot == null) {
+            snapshot = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(internalList));
+        }
+        return snapshot;
+    }
+
     @Override public Iterator<Appointment> iterator() {
         return internalList.iterator();
     }
@@ -147,17 +328,131 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of the appointment that is equal to {@code appointment} in the backing list, or -1 if
+     * there is no such appointment.
+     */
+    private int positionOf(Appointment appointment) {
+        Integer position = identityIndex.get(new IdentityKey(appointment));
+        return position != null && internalList.get(position).equals(appointment) ? position : -1;
+    }
+
+    /**
+     * Records {@code appointment} at {@code position} in all indexes.
+     */
+    private void index(Appointment appointment, int position) {
+        identityIndex.put(new IdentityKey(appointment), position);
+        patientIndex.computeIfAbsent(appointment.getPatient(), unused -> new LinkedHashSet<>())
+            .add(appointment.getDatetime());
+        timeIndex.computeIfAbsent(appointment.getDatetime(), unused -> new LinkedHashSet<>())
+            .add(appointment.getPatient());
+    }
+
+    /**
+     * Removes {@code appointment} from all indexes.
+     */
+    private void unindex(Appointment appointment) {
+        identityIndex.remove(new IdentityKey(appointment));
+        Set<LocalDateTime> datetimes = patientIndex.get(appointment.getPatient());
+        datetimes.remove(appointment.getDatetime());
+        if (datetimes.isEmpty()) {
+            patientIndex.remove(appointment.getPatient());
+        }
+        Set<Patient> patients = timeIndex.get(appointment.getDatetime());
+        patients.remove(appointment.getPatient());
+        if (patients.isEmpty()) {
+            timeIndex.remove(appointment.getDatetime());
+        }
+    }
+
+    /**
+     * Updates the recorded positions of all appointments at or after {@code start} in the backing list.
+     */
+    private void reindexPositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            identityIndex.put(new IdentityKey(internalList.get(i)), i);
+        }
+    }
+
+    /**
+     * Replaces the contents of the backing list with {@code appointments}, which must be unique, and rebuilds all
+     * indexes.
+     */
+    private void replaceAll(List<Appointment> appointments) {
+        List<Appointment> replaced = new ArrayList<>(internalList);
+        List<Appointment> replacements = new ArrayList<>(appointments);
+        internalList.setAll(replacements);
+        rebuildIndexes();
+        // Replacing the whole list would bring back appointments removed since, so the list must be unchanged.
+        recordEdit(UndoableEdit.of(() -> replaceAll(replacements, replaced),
+                () -> replaceAll(replaced, replacements)));
+    }
+
+    /**
+     * Replaces the contents of the backing list with {@code appointments} if it contains {@code expected}.
+     *
+     * @throws IllegalStateException if the backing list does not contain {@code expected}.
+     */
+    private void replaceAll(List<Appointment> expected, List<Appointment> appointments) {
+        if (!internalList.equals(expected)) {
+            throw new IllegalStateException("Appointments changed since they were replaced");
+        }
+        replaceAll(appointments);
+    }
+
+    /**
+     * Rebuilds all indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        identityIndex.clear();
+        patientIndex.clear();
+        timeIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenKeys = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!seenKeys.add(new IdentityKey(appointment))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hashable form of the identity fields of an {@code Appointment}. Two keys are equal exactly when their
+     * appointments are the same as defined by {@link Appointment#isSameAppointment(Appointment)}.
+     */
+    private static final class IdentityKey {
+        private final Patient patient;
+        private final LocalDateTime datetime;
+
+        IdentityKey(Appointment appointment) {
+            this(appointment.getPatient(), appointment.getDatetime());
+        }
+
+        IdentityKey(Patient patient, LocalDateTime datetime) {
+            this.patient = patient;
+            this.datetime = datetime;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                || (other instanceof IdentityKey
+                && patient.equals(((IdentityKey) other).patient)
+                && datetime.equals(((IdentityKey) other).datetime));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patient, datetime);
+        }
+    }
 }
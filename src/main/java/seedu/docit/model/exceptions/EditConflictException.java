@@ -0,0 +1,11 @@
+package seedu.docit.model.exceptions;
+
+/**
+ * Signals that a change cannot be undone or redone, because the data it changed has since been changed in a way that
+ * was not recorded, e.g. by auto-archiving.
+ */
+public class EditConflictException extends RuntimeException {
+    public EditConflictException(Throwable cause) {
+        super("The data has changed since, so the change cannot be undone or redone", cause);
+    }
+}
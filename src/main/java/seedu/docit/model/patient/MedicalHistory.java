@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import seedu.docit.commons.util.Interner;
 import seedu.docit.model.Entry;
 import seedu.docit.model.EntryList;
 import seedu.docit.model.patient.exceptions.ExceedCharacterLimit;
@@ -43,13 +44,17 @@ public class MedicalHistory {
      * A medical entry only exists when a patient has a Medical History.
      */
     public static class MedicalEntry {
+        /** Format of the date of record of an entry, as shown and stored. */
+        public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM uuuu");
+
+        /** Many patients share the same conditions, so each distinct description is only kept once. */
+        private static final Interner<String> DESCRIPTIONS = new Interner<>();
+
         private final String description;
         private final LocalDate dateOfEntry;
 
-        private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM uuuu");
-
         private MedicalEntry(String description) {
-            this.description = description;
+            this.description = DESCRIPTIONS.intern(description);
             this.dateOfEntry = LocalDate.now(ZoneId.of("Singapore"));
         }
 
@@ -59,13 +64,13 @@ public class MedicalHistory {
          * @param date date of record of the medcial entry.
          */
         public MedicalEntry(String description, LocalDate date) {
-            this.description = description;
+            this.description = DESCRIPTIONS.intern(description);
             this.dateOfEntry = date;
         }
 
         @Override
         public String toString() {
-            String dateToString = dateOfEntry.format(formatter);
+            String dateToString = dateOfEntry.format(DATE_FORMATTER);
             return this.description + ", recorded " + dateToString;
         }
 
@@ -83,7 +88,7 @@ public class MedicalHistory {
         }
 
         public String getDateString() {
-            return this.dateOfEntry.format(formatter);
+            return this.dateOfEntry.format(DATE_FORMATTER);
         }
     }
 
@@ -114,8 +119,7 @@ public class MedicalHistory {
             throw new ExceedCharacterLimit();
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM uuuu");
-        LocalDate dateOfEntry = LocalDate.parse(date, formatter);
+        LocalDate dateOfEntry = LocalDate.parse(date, MedicalEntry.DATE_FORMATTER);
         MedicalEntry entryToAdd = new MedicalEntry(desc, dateOfEntry);
         this.entryList.add(Entry.of(entryToAdd));
     }
@@ -146,12 +150,14 @@ public class MedicalHistory {
             return mh;
         }
 
+        if (mh.isEmpty()) { // if there is no record to add
+            return this;
+        }
+
         if (mh.size() + this.size() > MAX_SIZE) {
             throw new TooManyMedicalEntriesException();
         }
 
-        //MedicalHistory copiedMedicalHistory = copy(this);
-
         for (int i = 0; i < mh.size(); i++) {
             this.entryList.add(mh.entryList.get(i));
         }
@@ -325,10 +331,18 @@ public class MedicalHistory {
         return s.length() > MAX_CHAR_LIMIT;
     }
 
-    private MedicalHistory copy(MedicalHistory mh) {
+    /**
+     * Returns a {@code MedicalHistory} with the same medical entries, which can be changed without changing this one.
+     * @return copy of this medical history.
+     */
+    public MedicalHistory copy() {
+        if (this.isEmpty()) {
+            return this;
+        }
+
         MedicalHistory toCopy = MedicalHistory.generate();
-        for (int i = 0; i < mh.entryList.size(); i++) {
-            toCopy.entryList.add(mh.entryList.get(i));
+        for (int i = 0; i < this.entryList.size(); i++) {
+            toCopy.entryList.add(this.entryList.get(i));
         }
 
         return toCopy;
@@ -57,24 +57,19 @@ public class Patient implements Comparable<Patient> {
 
     /**
      * Returns a {@code Patient} object that has the combined {@code MedicalHistory} object.
+     * The medical history of this patient is left unchanged.
      * @param mH {@code MedicalHistory} object to be combined with existing patient medical history.
      * @return patient with combined {@code MedicalHistory} object.
      */
     public Patient addMedicalHistory(MedicalHistory mH) { // tell-don't-ask
-        try {
-            MedicalHistory copy = MedicalHistory.generate().append(this.medicalHistory);
-            copy.append(mH);
-        } catch (RuntimeException e) {
-            throw e;
-        }
-
-        MedicalHistory editedMedicalHistory = this.medicalHistory.append(mH);
+        MedicalHistory editedMedicalHistory = this.medicalHistory.copy().append(mH);
 
         return new Patient(name, phone, email, address, editedMedicalHistory);
     }
 
     /**
      * Returns a {@code Patient} object that has the deleted {@code MedicalHistory} object.
+     * The medical history of this patient is left unchanged.
      * @param index {@code MedicalHistory} object to with a specified deleted medical entry.
      * @return patient with deleted medical entry from {@code MedicalHistory} object.
      */
@@ -89,7 +84,7 @@ public class Patient implements Comparable<Patient> {
             return new Patient(name, phone, email, address, MedicalHistory.EMPTY_MEDICAL_HISTORY);
         }
 
-        return new Patient(name, phone, email, address, this.medicalHistory.delete(i));
+        return new Patient(name, phone, email, address, this.medicalHistory.copy().delete(i));
     }
 
     /**
@@ -15,6 +15,10 @@ public class PatientContainsKeywordsPredicate implements Predicate<Patient> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Patient patient) {
         boolean hasName = keywords.stream()
@@ -0,0 +1,63 @@
+package seedu.docit.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a Patient's ID in the address book. An ID is given to a patient when it is added to an address book
+ * and stays with it when the patient is edited, so that other records can refer to the patient by it.
+ * Guarantees: immutable; is valid as declared in {@link #isValidPatientId(String)}
+ */
+public class PatientId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Patient IDs should be non-negative integers";
+    public static final String VALIDATION_REGEX = "\\d{1,18}";
+
+    public final long value;
+
+    /**
+     * Constructs a {@code PatientId}.
+     *
+     * @param id A non-negative ID.
+     */
+    public PatientId(long id) {
+        checkArgument(id >= 0, MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    /**
+     * Constructs a {@code PatientId} from its string form.
+     *
+     * @param id A valid ID.
+     */
+    public PatientId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidPatientId(id), MESSAGE_CONSTRAINTS);
+        value = Long.parseLong(id);
+    }
+
+    /**
+     * Returns true if a given string is a valid patient ID.
+     */
+    public static boolean isValidPatientId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatientId // instanceof handles nulls
+                && value == ((PatientId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
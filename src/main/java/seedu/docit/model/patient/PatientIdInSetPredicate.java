@@ -0,0 +1,39 @@
+package seedu.docit.model.patient;
+
+import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.docit.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Patient}'s {@code PatientId} in the given address book is one of the given IDs.
+ */
+public class PatientIdInSetPredicate implements Predicate<Patient> {
+    private final Set<PatientId> ids;
+    private final ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates a predicate that accepts the patients of {@code addressBook} whose IDs are in {@code ids}.
+     */
+    public PatientIdInSetPredicate(Set<PatientId> ids, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(ids, addressBook);
+        this.ids = ids;
+        this.addressBook = addressBook;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        PatientId id = addressBook.getIdOfPatient(patient);
+        return id != null && ids.contains(id);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatientIdInSetPredicate // instanceof handles nulls
+                && ids.equals(((PatientIdInSetPredicate) other).ids)); // state check
+    }
+
+}
@@ -0,0 +1,275 @@
+package seedu.docit.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the words in each patient's name and medical history to the IDs of the patients that
+ * contain them. Words are matched whole and ignoring case, as in
+ * {@link seedu.docit.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ * <p>
+ * The words indexed for a patient are remembered, so a patient can be removed from the index even if its medical
+ * history was changed in place after it was added.
+ * <p>
+ * The words of patients' names are also kept sorted, so that names starting with a given prefix can be found
+ * without scanning every name, and indexed by their trigrams, so that misspelt names can be found by looking only at
+ * names that share part of their spelling.
+ */
+public class PatientSearchIndex {
+
+    public static final int EXACT_MATCH_SCORE = 4;
+    public static final int PREFIX_MATCH_SCORE = 3;
+    public static final int ONE_EDIT_MATCH_SCORE = 2;
+    public static final int TWO_EDITS_MATCH_SCORE = 1;
+
+    private static final char WORD_BOUNDARY = '$';
+
+    private final Map<String, Set<PatientId>> idsByWord = new HashMap<>();
+    private final Map<PatientId, Set<String>> wordsById = new HashMap<>();
+    private final NavigableMap<String, Set<PatientId>> idsByNameWord = new TreeMap<>();
+    private final Map<String, Set<String>> nameWordsByTrigram = new HashMap<>();
+    private final Map<PatientId, Set<String>> nameWordsById = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code patient} under {@code id}, replacing the words previously indexed under it.
+     */
+    public void add(PatientId id, Patient patient) {
+        requireAllNonNull(id, patient);
+        remove(id);
+
+        Set<String> words = wordsOf(patient);
+        for (String word : words) {
+            idsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(id);
+        }
+        wordsById.put(id, words);
+
+        Set<String> nameWords = new HashSet<>();
+        addWords(patient.getName().fullName, nameWords);
+        for (String nameWord : nameWords) {
+            Set<PatientId> ids = idsByNameWord.get(nameWord);
+            if (ids == null) {
+                ids = new HashSet<>();
+                idsByNameWord.put(nameWord, ids);
+                for (String trigram : trigramsOf(nameWord)) {
+                    nameWordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(nameWord);
+                }
+            }
+            ids.add(id);
+        }
+        nameWordsById.put(id, nameWords);
+    }
+
+    /**
+     * Removes the words indexed under {@code id}, if any.
+     */
+    public void remove(PatientId id) {
+        requireNonNull(id);
+        Set<String> words = wordsById.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<PatientId> ids = idsByWord.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByWord.remove(word);
+            }
+        }
+
+        for (String nameWord : nameWordsById.remove(id)) {
+            Set<PatientId> ids = idsByNameWord.get(nameWord);
+            ids.remove(id);
+            if (!ids.isEmpty()) {
+                continue;
+            }
+            idsByNameWord.remove(nameWord);
+            for (String trigram : trigramsOf(nameWord)) {
+                Set<String> nameWordsWithTrigram = nameWordsByTrigram.get(trigram);
+                nameWordsWithTrigram.remove(nameWord);
+                if (nameWordsWithTrigram.isEmpty()) {
+                    nameWordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        idsByWord.clear();
+        wordsById.clear();
+        idsByNameWord.clear();
+        nameWordsByTrigram.clear();
+        nameWordsById.clear();
+    }
+
+    /**
+     * Returns the IDs of the patients whose name or medical history contains any of {@code keywords}.
+     * Blank keywords match nothing.
+     */
+    public Set<PatientId> findAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<PatientId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(idsByWord.getOrDefault(normalize(keyword.trim()), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the IDs of at most {@code limit} patients whose names best match {@code keywords}, best match first.
+     * A word of a name matches a keyword if it is the keyword, starts with it, or is at most one edit (two for
+     * keywords of five or more letters) away from it, ignoring case. Each patient is scored by adding up, over the
+     * keywords, the score of the best match in its name; patients with equal scores are ordered by ID.
+     */
+    public List<PatientId> findClosest(Collection<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        Map<PatientId, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalize(keyword.trim());
+            if (normalizedKeyword.isEmpty()) {
+                continue;
+            }
+            Map<PatientId, Integer> keywordScores = new HashMap<>();
+            matchNameWords(normalizedKeyword).forEach((nameWord, score) -> {
+                for (PatientId id : idsByNameWord.get(nameWord)) {
+                    keywordScores.merge(id, score, Math::max);
+                }
+            });
+            keywordScores.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+        }
+        return topScoring(scores, limit);
+    }
+
+    /**
+     * Returns the name words that match {@code keyword}, each with the score of its match.
+     */
+    private Map<String, Integer> matchNameWords(String keyword) {
+        Map<String, Integer> matches = new HashMap<>();
+        int maxEdits = keyword.length() >= 5 ? 2 : keyword.length() >= 3 ? 1 : 0;
+        if (maxEdits > 0) {
+            for (String candidate : nameWordsSharingTrigrams(keyword, maxEdits)) {
+                int edits = editDistance(keyword, candidate, maxEdits);
+                if (edits <= maxEdits) {
+                    matches.put(candidate, edits == 1 ? ONE_EDIT_MATCH_SCORE : TWO_EDITS_MATCH_SCORE);
+                }
+            }
+        }
+        for (String nameWord : idsByNameWord.subMap(keyword, true, keyword + Character.MAX_VALUE, false).keySet()) {
+            matches.put(nameWord, nameWord.equals(keyword) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the name words that share enough trigrams with {@code keyword} to be within {@code maxEdits} edits of
+     * it. As one edit changes at most three trigrams, a word within {@code maxEdits} edits shares all but
+     * {@code 3 * maxEdits} of the keyword's trigrams, and at least one.
+     */
+    private Set<String> nameWordsSharingTrigrams(String keyword, int maxEdits) {
+        Set<String> trigrams = trigramsOf(keyword);
+        int minSharedTrigrams = Math.max(1, trigrams.size() - 3 * maxEdits);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String nameWord : nameWordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(nameWord, 1, Integer::sum);
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        sharedTrigrams.forEach((nameWord, count) -> {
+            if (count >= minSharedTrigrams) {
+                candidates.add(nameWord);
+            }
+        });
+        return candidates;
+    }
+
+    private static List<PatientId> topScoring(Map<PatientId, Integer> scores, int limit) {
+        Comparator<Map.Entry<PatientId, Integer>> worstFirst = Map.Entry.<PatientId, Integer>comparingByValue()
+            .thenComparing(entry -> entry.getKey().value, Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<PatientId, Integer>> best = new PriorityQueue<>(worstFirst);
+        for (Map.Entry<PatientId, Integer> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<PatientId> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        String paddedWord = WORD_BOUNDARY + word + WORD_BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, or {@code maxEdits + 1} if it is larger than
+     * {@code maxEdits}.
+     */
+    private static int editDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxEdits + 1);
+    }
+
+    private static Set<String> wordsOf(Patient patient) {
+        Set<String> words = new HashSet<>();
+        addWords(patient.getName().fullName, words);
+        patient.getMedicalHistory().toStream().forEach(description -> addWords(description, words));
+        return words;
+    }
+
+    private static void addWords(String sentence, Set<String> words) {
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
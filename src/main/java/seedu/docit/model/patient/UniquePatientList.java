@@ -3,13 +3,19 @@ package seedu.docit.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.index.Index;
 import seedu.docit.model.patient.exceptions.DuplicatePatientException;
+import seedu.docit.model.patient.exceptions.DuplicatePatientIdException;
 import seedu.docit.model.patient.exceptions.PatientNotFoundException;
 
 /**
@@ -20,6 +26,12 @@ import seedu.docit.model.patient.exceptions.PatientNotFoundException;
  * patient uses Patient#equals(Object) so as to ensure that the patient with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * An identity index from each patient's {@code Name} to its position in the backing list is kept in sync with the
+ * list, so identity checks and lookups of a known patient do not need to scan the whole list.
+ * <p>
+ * Every patient in the list also has a {@code PatientId} that is unique within the list and is kept when the patient
+ * is edited. IDs are looked up in both directions through hash maps.
  *
  * @see Patient#isSamePatient(Patient)
  */
@@ -28,6 +40,10 @@ public class UniquePatientList implements Iterable<Patient> {
     private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> identityIndex = new HashMap<>();
+    private final Map<Name, PatientId> idsByName = new HashMap<>();
+    private final Map<PatientId, Patient> patientsById = new HashMap<>();
+    private long nextId;
 
     /**
      * Returns patient at index position or null if not exist.
@@ -42,7 +58,25 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public Index indexOf(Patient patient) {
         requireNonNull(patient);
-        return internalList.indexOf(patient) != -1 ? Index.fromZeroBased(internalList.indexOf(patient)) : null;
+        int position = positionOf(patient);
+        return position != -1 ? Index.fromZeroBased(position) : null;
+    }
+
+    /**
+     * Returns the patient with the given ID or null if not exist.
+     */
+    public Patient get(PatientId id) {
+        requireNonNull(id);
+        return patientsById.get(id);
+    }
+
+    /**
+     * Returns the ID of the patient in the list that is equal to {@code patient}, or null if not exist.
+     */
+    public PatientId idOf(Patient patient) {
+        requireNonNull(patient);
+        PatientId id = idsByName.get(patient.getName());
+        return id != null && patientsById.get(id).equals(patient) ? id : null;
     }
 
     /**
@@ -50,7 +84,7 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return identityIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -59,10 +93,42 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void add(Patient toAdd) {
         requireNonNull(toAdd);
+        add(toAdd, new PatientId(nextId));
+    }
+
+    /**
+     * Adds a patient with the given ID to the list.
+     * The patient must not already exist in the list, and no other patient in the list may have the same ID.
+     */
+    public void add(Patient toAdd, PatientId id) {
+        requireAllNonNull(toAdd, id);
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
+        if (patientsById.containsKey(id)) {
+            throw new DuplicatePatientIdException();
+        }
+        identityIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        putId(toAdd, id);
+    }
+
+    /**
+     * Inserts a patient with the given ID into the list at {@code index}, or at the end if {@code index} is past the
+     * end. The patient must not already exist in the list, and no other patient in the list may have the same ID.
+     */
+    public void add(Index index, Patient toAdd, PatientId id) {
+        requireAllNonNull(index, toAdd, id);
+        if (contains(toAdd)) {
+            throw new DuplicatePatientException();
+        }
+        if (patientsById.containsKey(id)) {
+            throw new DuplicatePatientIdException();
+        }
+        int position = Math.min(index.getZeroBased(), internalList.size());
+        internalList.add(position, toAdd);
+        reindexFrom(position);
+        putId(toAdd, id);
     }
 
     /**
@@ -73,7 +139,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
@@ -82,7 +148,10 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
+        identityIndex.remove(target.getName());
+        identityIndex.put(editedPatient.getName(), index);
         internalList.set(index, editedPatient);
+        putId(editedPatient, idsByName.remove(target.getName()));
     }
 
     /**
@@ -91,27 +160,72 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PatientNotFoundException();
         }
+
+        identityIndex.remove(toRemove.getName());
+        patientsById.remove(idsByName.remove(toRemove.getName()));
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindexFrom(0);
+        idsByName.clear();
+        idsByName.putAll(replacement.idsByName);
+        patientsById.clear();
+        patientsById.putAll(replacement.patientsById);
+        nextId = Math.max(nextId, replacement.nextId);
     }
 
     /**
-     * Replaces the contents of this list with {@code patients}.
+     * Replaces the contents of this list with {@code patients}, giving them new IDs.
      * {@code patients} must not contain duplicate patients.
      */
     public void setPatients(List<Patient> patients) {
+        setPatients(patients, patient -> null);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code patients}, keeping the ID {@code idOf} returns for each patient.
+     * Patients for which {@code idOf} returns null are given new IDs, which no patient of this list had before.
+     * {@code patients} must not contain duplicate patients or two patients with the same ID.
+     */
+    public void setPatients(List<Patient> patients, Function<? super Patient, PatientId> idOf) {
         requireAllNonNull(patients);
+        requireNonNull(idOf);
         if (!patientsAreUnique(patients)) {
             throw new DuplicatePatientException();
         }
 
+        Map<Name, PatientId> keptIds = new HashMap<>();
+        Set<PatientId> seenIds = new HashSet<>();
+        long firstFreeId = 0;
+        for (Patient patient : patients) {
+            PatientId id = idOf.apply(patient);
+            if (id == null) {
+                continue;
+            }
+            if (!seenIds.add(id)) {
+                throw new DuplicatePatientIdException();
+            }
+            keptIds.put(patient.getName(), id);
+            firstFreeId = Math.max(firstFreeId, id.value + 1);
+        }
+
         internalList.setAll(patients);
+        reindexFrom(0);
+        idsByName.clear();
+        patientsById.clear();
+        nextId = Math.max(nextId, firstFreeId);
+        for (Patient patient : patients) {
+            PatientId id = keptIds.get(patient.getName());
+            putId(patient, id != null ? id : new PatientId(nextId));
+        }
     }
 
     /**
@@ -138,15 +252,45 @@ public class UniquePatientList implements Iterable<Patient> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of the patient that is equal to {@code patient} in the backing list, or -1 if there is
+     * no such patient.
+     */
+    private int positionOf(Patient patient) {
+        Integer position = identityIndex.get(patient.getName());
+        return position != null && internalList.get(position).equals(patient) ? position : -1;
+    }
+
+    /**
+     * Records {@code id} as the ID of {@code patient}. IDs are never handed out twice by the same list, even after
+     * the patient they were given to is removed.
+     */
+    private void putId(Patient patient, PatientId id) {
+        idsByName.put(patient.getName(), id);
+        patientsById.put(id, patient);
+        nextId = Math.max(nextId, id.value + 1);
+    }
+
+    /**
+     * Rebuilds the identity index entries for all patients at or after {@code start} in the backing list.
+     */
+    private void reindexFrom(int start) {
+        if (start == 0) {
+            identityIndex.clear();
+        }
+        for (int i = start; i < internalList.size(); i++) {
+            identityIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
     /**
      * Returns true if {@code patients} contains only unique patients.
      */
     private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Patient patient : patients) {
+            if (!seenNames.add(patient.getName())) {
+                return false;
             }
         }
         return true;
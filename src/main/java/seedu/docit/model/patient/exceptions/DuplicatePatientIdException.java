@@ -0,0 +1,10 @@
+package seedu.docit.model.patient.exceptions;
+
+/**
+ * Signals that the operation will result in two Patients with the same ID.
+ */
+public class DuplicatePatientIdException extends RuntimeException {
+    public DuplicatePatientIdException() {
+        super("Operation would result in two patients with the same ID");
+    }
+}
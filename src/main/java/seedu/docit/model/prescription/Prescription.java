@@ -1,13 +1,23 @@
 package seedu.docit.model.prescription;
 
+import java.util.Objects;
+
+import seedu.docit.commons.util.Interner;
+
+/**
+ * Represents a prescription of a medicine in an appointment. Guarantees: immutable.
+ */
 public class Prescription {
     public static final int MEDICINE_CHAR_LENGTH_LIMIT = 20;
     public static final int VOLUME_CHAR_LENGTH_LIMIT = 20;
     public static final int DURATION_CHAR_LENGTH_LIMIT = 40;
 
-    private String medicine;
-    private String volume;
-    private String duration;
+    /** Medicines, volumes and durations repeat across prescriptions, so each distinct one is only kept once. */
+    private static final Interner<String> FIELDS = new Interner<>();
+
+    private final String medicine;
+    private final String volume;
+    private final String duration;
 
     /**
      * Creates a new Prescription object with medicine, volume, duration and associated appointment
@@ -19,9 +29,9 @@ public class Prescription {
         if (medicine.isBlank() || volume.isBlank() || duration.isBlank()) {
             throw new RuntimeException("Medicine cannot be blank. Volume cannot be blank. Duration cannot be blank.");
         }
-        this.medicine = medicine.toLowerCase();
-        this.volume = volume.toLowerCase();
-        this.duration = duration.toLowerCase();
+        this.medicine = FIELDS.intern(medicine.toLowerCase());
+        this.volume = FIELDS.intern(volume.toLowerCase());
+        this.duration = FIELDS.intern(duration.toLowerCase());
     }
 
 
@@ -65,6 +75,11 @@ public class Prescription {
                 && that.getVolume().equals(getVolume());
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(medicine, volume, duration);
+    }
+
     @Override
     public String toString() {
         return "Medicine: " + medicine
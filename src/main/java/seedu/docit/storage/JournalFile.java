@@ -0,0 +1,170 @@
+package seedu.docit.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.MetricsCenter;
+import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.commons.util.FileUtil;
+import seedu.docit.commons.util.JsonUtil;
+
+/**
+ * An append-only file of {@link JsonAdaptedJournalEntry} lines that records the changes made to a book since its
+ * snapshot file was last written. The journal is kept next to the snapshot, in a file with the same name followed
+ * by {@code .journal}.
+ * <p>
+ * The first line of the journal holds a checksum of the snapshot it follows, so that a journal left behind by a
+ * snapshot that was written without it is ignored rather than replayed onto the wrong data.
+ */
+class JournalFile {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFile.class);
+
+    private static final long NO_SNAPSHOT_CHECKSUM = -1;
+
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    private int entryCount;
+    private boolean isAppendable;
+
+    /**
+     * Creates a {@code JournalFile} for the snapshot at {@code snapshotFilePath} that holds at most
+     * {@code compactionThreshold} entries before a new snapshot has to be written.
+     */
+    JournalFile(Path snapshotFilePath, int compactionThreshold) {
+        requireNonNull(snapshotFilePath);
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + ".journal");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns true if {@code count} more entries can be appended without first writing a new snapshot.
+     * This is false until the journal has been read or reset, as its contents are unknown before then.
+     */
+    boolean hasRoomFor(int count) {
+        return isAppendable && entryCount + count <= compactionThreshold;
+    }
+
+    /**
+     * Returns the entries recorded since the snapshot was written, in the order they were appended.
+     * Returns no entries if the journal is missing or does not follow the current snapshot.
+     *
+     * @throws DataConversionException if the journal cannot be read or an entry before the last is malformed.
+     */
+    List<JsonAdaptedJournalEntry> readEntries() throws DataConversionException {
+        isAppendable = false;
+        entryCount = 0;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines;
+        long snapshotChecksum;
+        try {
+            lines = Files.readAllLines(journalFilePath, UTF_8);
+            snapshotChecksum = checksumOfSnapshot();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        if (lines.isEmpty() || !Long.valueOf(snapshotChecksum).equals(parseHeader(lines.get(0)))) {
+            logger.info("Journal file " + journalFilePath + " does not follow " + snapshotFilePath + ", ignoring it");
+            return Collections.emptyList();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Malformed entry in journal file " + journalFilePath + ": " + ioe);
+                    throw new DataConversionException(ioe);
+                }
+                // An entry that was only partly written when the app stopped; it was never saved.
+                logger.info("Ignoring incomplete last entry of journal file " + journalFilePath);
+                entryCount = entries.size();
+                return entries;
+            }
+        }
+        entryCount = entries.size();
+        isAppendable = true;
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal, and returns once they have reached the disk.
+     */
+    void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        assert hasRoomFor(entries.size());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toSingleLineJsonString(entry)).append(System.lineSeparator());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+        int byteCount = bytes.remaining();
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            // The journal is the only copy of these changes, so they must not be left in the OS cache.
+            channel.force(false);
+        }
+        entryCount += entries.size();
+        MetricsCenter.recordSize("write " + journalFilePath.getFileName(), byteCount);
+    }
+
+    /**
+     * Empties the journal so that it follows the snapshot file as it is now. Call after writing a new snapshot.
+     */
+    void reset() throws IOException {
+        String header = JsonUtil.toSingleLineJsonString(JsonAdaptedJournalEntry.header(checksumOfSnapshot()));
+        FileUtil.createIfMissing(journalFilePath);
+        Files.write(journalFilePath, Collections.singletonList(header), UTF_8);
+        entryCount = 0;
+        isAppendable = true;
+    }
+
+    private long checksumOfSnapshot() throws IOException {
+        if (!FileUtil.isFileExists(snapshotFilePath)) {
+            return NO_SNAPSHOT_CHECKSUM;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(snapshotFilePath));
+        return checksum.getValue();
+    }
+
+    private static Long parseHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).getSnapshotChecksum();
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+}
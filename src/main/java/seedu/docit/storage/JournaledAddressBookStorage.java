@@ -0,0 +1,186 @@
+package seedu.docit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
+import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file and a journal of the changes made since.
+ * <p>
+ * Saving appends only the patients that were added, edited or deleted since the last save to the journal. Once the
+ * journal holds more than {@code compactionThreshold} entries, or the patients were reordered, the whole address
+ * book is written to the snapshot file instead and the journal is emptied. Reading replays the journal onto the
+ * snapshot, giving added patients the IDs they were saved with.
+ * <p>
+ * Patients are immutable and replaced whenever they are edited, including their medical histories, so a patient is
+ * taken to be unchanged since the last save only if it is the same object as the one saved.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final JournalFile journal;
+
+    /** Patients as last read or saved, or null if the data on disk is unknown. */
+    private List<Patient> savedPatients;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, StorageFormat.PRETTY, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, StorageFormat format) {
+        this(filePath, format, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots to {@code filePath} in the given format, and
+     * writes a new snapshot once its journal would hold more than {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, StorageFormat format, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, format);
+        this.journal = new JournalFile(filePath, compactionThreshold);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Files other than the storage's own file are read as plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshot;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = journal.readEntries();
+        if (!snapshot.isPresent() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The snapshot was read for this book alone, so the journal is replayed onto it rather than onto a copy.
+        AddressBook addressBook = snapshot.isPresent() && snapshot.get() instanceof AddressBook
+            ? (AddressBook) snapshot.get() : new AddressBook(snapshot.orElseGet(AddressBook::new));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                replay(entry, addressBook);
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            logger.info("Illegal values found in " + journal.getJournalFilePath() + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        savedPatients = new ArrayList<>(addressBook.getPatientList());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Files other than the storage's own file are written
+     * as plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Patient> patients = new ArrayList<>(addressBook.getPatientList());
+        Optional<List<ListEdit<Patient>>> edits = savedPatients == null
+            ? Optional.empty()
+            : ListEdit.betweenSameObjects(savedPatients, patients, Patient::getName);
+
+        savedPatients = null;
+        if (edits.isPresent() && journal.hasRoomFor(edits.get().size())) {
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            for (ListEdit<Patient> edit : edits.get()) {
+                Patient record = edit.getRecord();
+                JsonAdaptedPatient patient = record == null
+                    ? null
+                    : new JsonAdaptedPatient(record, addressBook.getIdOfPatient(record));
+                entries.add(JsonAdaptedJournalEntry.ofPatient(edit.getKind(), edit.getIndex(), patient));
+            }
+            journal.append(entries);
+        } else {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            journal.reset();
+        }
+        savedPatients = patients;
+    }
+
+    /**
+     * Applies the change recorded by {@code entry} to {@code addressBook}.
+     */
+    private static void replay(JsonAdaptedJournalEntry entry, AddressBook addressBook) throws IllegalValueException {
+        switch (entry.getKind()) {
+        case ADD:
+            Patient patient = entry.getPatient().toModelType();
+            Optional<PatientId> id = entry.getPatient().toModelId();
+            if (id.isPresent()) {
+                addressBook.addPatient(patient, id.get());
+            } else {
+                addressBook.addPatient(patient);
+            }
+            break;
+        case SET:
+            addressBook.setPatient(patientAt(addressBook, entry.getIndex()), entry.getPatient().toModelType());
+            break;
+        case REMOVE:
+            addressBook.removePatient(patientAt(addressBook, entry.getIndex()));
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal entry kind: " + entry.getKind());
+        }
+    }
+
+    private static Patient patientAt(AddressBook addressBook, int index) throws IllegalValueException {
+        List<Patient> patients = addressBook.getPatientList();
+        if (index >= patients.size()) {
+            throw new IllegalValueException("Journal entry refers to a patient that does not exist.");
+        }
+        return patients.get(index);
+    }
+}
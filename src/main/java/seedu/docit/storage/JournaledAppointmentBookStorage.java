@@ -0,0 +1,213 @@
+package seedu.docit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
+import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.ReadOnlyAppointmentBook;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.PatientId;
+
+/**
+ * A class to access AppointmentBook data stored as a json snapshot file and a journal of the changes made since.
+ * <p>
+ * Saving appends only the appointments that were added, edited or deleted since the last save to the journal.
+ * Appointments refer to their patients by {@link PatientId}, so a new snapshot is written instead when a patient
+ * the snapshot or journal refers to was deleted, when the appointments were reordered, or once the journal holds
+ * more than {@code compactionThreshold} entries. Reading replays the journal onto the snapshot.
+ */
+public class JournaledAppointmentBookStorage implements AppointmentBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAppointmentBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAppointmentBookStorage snapshotStorage;
+    private final JournalFile journal;
+
+    /** Appointments as last read or saved, or null if the data on disk is unknown. */
+    private List<Appointment> savedAppointments;
+    /** IDs of the patients the snapshot and journal refer to. */
+    private Set<PatientId> referencedPatientIds;
+
+    public JournaledAppointmentBookStorage(Path filePath) {
+        this(filePath, StorageFormat.PRETTY, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledAppointmentBookStorage(Path filePath, StorageFormat format) {
+        this(filePath, format, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAppointmentBookStorage} that writes snapshots to {@code filePath} in the given
+     * format, and writes a new snapshot once its journal would hold more than {@code compactionThreshold} entries.
+     */
+    public JournaledAppointmentBookStorage(Path filePath, StorageFormat format, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAppointmentBookStorage(filePath, format);
+        this.journal = new JournalFile(filePath, compactionThreshold);
+    }
+
+    @Override
+    public Path getAppointmentBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readAppointmentBook(ReadOnlyAddressBook addressBook)
+        throws DataConversionException {
+        return readAppointmentBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #readAppointmentBook(ReadOnlyAddressBook)}. Files other than the storage's own file are read
+     * as plain json.
+     *
+     * @param addressBook address book
+     * @param filePath    location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readAppointmentBook(ReadOnlyAddressBook addressBook, Path filePath)
+        throws DataConversionException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAppointmentBook> snapshot = snapshotStorage.readAppointmentBook(addressBook, filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshot;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = journal.readEntries();
+        if (!snapshot.isPresent() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // The snapshot was read for this book alone, so the journal is replayed onto it rather than onto a copy.
+        AppointmentBook appointmentBook = snapshot.isPresent() && snapshot.get() instanceof AppointmentBook
+            ? (AppointmentBook) snapshot.get() : new AppointmentBook(snapshot.orElseGet(AppointmentBook::new));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                replay(entry, appointmentBook, addressBook);
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            logger.info("Illegal values found in " + journal.getJournalFilePath() + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        savedAppointments = new ArrayList<>(appointmentBook.getAppointmentList());
+        referencedPatientIds = idsOfPatients(savedAppointments, addressBook);
+        return Optional.of(appointmentBook);
+    }
+
+    @Override
+    public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook)
+        throws IOException {
+        saveAppointmentBook(appointmentBook, addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAppointmentBook(ReadOnlyAppointmentBook, ReadOnlyAddressBook)}. Files other than the
+     * storage's own file are written as plain json.
+     *
+     * @param addressBook address book
+     * @param filePath    location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook,
+        Path filePath) throws IOException {
+        requireNonNull(appointmentBook);
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAppointmentBook(appointmentBook, addressBook, filePath);
+            return;
+        }
+
+        List<Appointment> appointments = new ArrayList<>(appointmentBook.getAppointmentList());
+        Optional<List<ListEdit<Appointment>>> edits = savedAppointments == null || !keepsReferencedPatients(addressBook)
+            ? Optional.empty()
+            : ListEdit.between(savedAppointments, appointments,
+                appointment -> List.of(appointment.getPatient(), appointment.getDatetime()));
+
+        savedAppointments = null;
+        if (edits.isPresent() && journal.hasRoomFor(edits.get().size())) {
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            for (ListEdit<Appointment> edit : edits.get()) {
+                JsonAdaptedAppointment appointment = null;
+                if (edit.getRecord() != null) {
+                    appointment = new JsonAdaptedAppointment(edit.getRecord(), addressBook);
+                    referencedPatientIds.add(addressBook.getIdOfPatient(edit.getRecord().getPatient()));
+                }
+                entries.add(JsonAdaptedJournalEntry.ofAppointment(edit.getKind(), edit.getIndex(), appointment));
+            }
+            journal.append(entries);
+        } else {
+            snapshotStorage.saveAppointmentBook(appointmentBook, addressBook, filePath);
+            journal.reset();
+            referencedPatientIds = idsOfPatients(appointments, addressBook);
+        }
+        savedAppointments = appointments;
+    }
+
+    /**
+     * Returns true if every patient the snapshot and journal refer to is still in {@code addressBook}.
+     */
+    private boolean keepsReferencedPatients(ReadOnlyAddressBook addressBook) {
+        return referencedPatientIds.stream().allMatch(id -> addressBook.getPatientOfId(id) != null);
+    }
+
+    private static Set<PatientId> idsOfPatients(List<Appointment> appointments, ReadOnlyAddressBook addressBook) {
+        Set<PatientId> ids = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            ids.add(addressBook.getIdOfPatient(appointment.getPatient()));
+        }
+        return ids;
+    }
+
+    /**
+     * Applies the change recorded by {@code entry} to {@code appointmentBook}.
+     */
+    private static void replay(JsonAdaptedJournalEntry entry, AppointmentBook appointmentBook,
+                               ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        switch (entry.getKind()) {
+        case ADD:
+            appointmentBook.addAppointment(entry.getAppointment().toModelType(addressBook));
+            break;
+        case SET:
+            appointmentBook.setAppointment(appointmentAt(appointmentBook, entry.getIndex()),
+                entry.getAppointment().toModelType(addressBook));
+            break;
+        case REMOVE:
+            appointmentBook.removeAppointment(appointmentAt(appointmentBook, entry.getIndex()));
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal entry kind: " + entry.getKind());
+        }
+    }
+
+    private static Appointment appointmentAt(AppointmentBook appointmentBook, int index)
+        throws IllegalValueException {
+        List<Appointment> appointments = appointmentBook.getAppointmentList();
+        if (index >= appointments.size()) {
+            throw new IllegalValueException("Journal entry refers to an appointment that does not exist.");
+        }
+        return appointments.get(index);
+    }
+}
@@ -2,41 +2,51 @@ package seedu.docit.storage;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import seedu.docit.commons.core.index.Index;
 import seedu.docit.commons.exceptions.IllegalValueException;
 import seedu.docit.logic.parser.ParserUtil;
 import seedu.docit.logic.parser.exceptions.ParseException;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.appointment.Appointment;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 import seedu.docit.model.prescription.Prescription;
+import seedu.docit.model.prescription.exceptions.DuplicatePrescriptionException;
 
 /**
  * Jackson-friendly version of {@link Appointment}.
+ * The patient of the appointment is saved as its {@link PatientId} in the address book.
  */
 public class JsonAdaptedAppointment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
 
-    private final String patientIndex;
+    private final String patientId;
     private final String datetime;
     private final List<JsonAdaptedPrescription> prescriptionList = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedAppointment} with the given appointment details.
      */
-    @JsonCreator public JsonAdaptedAppointment(@JsonProperty("patientId") String patientIndex,
-        @JsonProperty("datetime") String datetime, @JsonProperty("prescriptionList")
-                                                       List<JsonAdaptedPrescription> prescriptionList) {
-        this.patientIndex = patientIndex;
+    public JsonAdaptedAppointment(String patientId, String datetime, List<JsonAdaptedPrescription> prescriptionList) {
+        this(patientId, null, datetime, prescriptionList);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedAppointment} with the given appointment details. Files saved before patients
+     * had IDs hold the patient's position under {@code patientIndex} instead, which is the ID such patients are
+     * loaded with.
+     */
+    @JsonCreator
+    private JsonAdaptedAppointment(@JsonProperty("patientId") String patientId,
+        @JsonProperty("patientIndex") String legacyPatientIndex, @JsonProperty("datetime") String datetime,
+        @JsonProperty("prescriptionList") List<JsonAdaptedPrescription> prescriptionList) {
+        this.patientId = patientId != null ? patientId : legacyPatientIndex;
         this.datetime = datetime;
         if (prescriptionList != null) {
             this.prescriptionList.addAll(prescriptionList);
@@ -47,7 +57,7 @@ public class JsonAdaptedAppointment {
      * Converts a given {@code Appointment} into this class for Jackson use.
      */
     public JsonAdaptedAppointment(Appointment source, ReadOnlyAddressBook addressBook) {
-        patientIndex = Integer.toString(addressBook.getIndexOfPatient(source.getPatient()).getZeroBased());
+        patientId = addressBook.getIdOfPatient(source.getPatient()).toString();
         datetime = source.getInputFormattedDatetimeString();
         prescriptionList.addAll(source.getPrescriptions()
                         .stream().map(JsonAdaptedPrescription::new)
@@ -60,18 +70,15 @@ public class JsonAdaptedAppointment {
      * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
      */
     public Appointment toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
-        if (patientIndex == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Index.class.getSimpleName()));
+        if (patientId == null) {
+            throw new IllegalValueException(
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, PatientId.class.getSimpleName()));
         }
-
-        Index modelPatientIndex;
-        try {
-            modelPatientIndex = Index.fromZeroBased(Integer.parseInt(patientIndex));
-        } catch (NumberFormatException e) {
-            throw new IllegalValueException("Patient index must be an integer.");
+        if (!PatientId.isValidPatientId(patientId)) {
+            throw new IllegalValueException(PatientId.MESSAGE_CONSTRAINTS);
         }
 
-        Patient patientToAppointment = addressBook.getPatientOfIndex(modelPatientIndex);
+        Patient patientToAppointment = addressBook.getPatientOfId(new PatientId(patientId));
 
         if (patientToAppointment == null) {
             throw new IllegalValueException("Patient that has appointment does not exist.");
@@ -93,7 +100,7 @@ public class JsonAdaptedAppointment {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Appointment List"));
         }
 
-        Set<Prescription> newPrescriptionList = new HashSet<>();
+        List<Prescription> newPrescriptionList = new ArrayList<>();
         for (JsonAdaptedPrescription prescription : prescriptionList) {
             Prescription newPrescription = new Prescription(
                     prescription.getPrescriptionMedicine(),
@@ -102,7 +109,11 @@ public class JsonAdaptedAppointment {
             newPrescriptionList.add(newPrescription);
         }
 
-        return new Appointment(patientToAppointment, localDateTime, newPrescriptionList);
+        try {
+            return new Appointment(patientToAppointment, localDateTime, newPrescriptionList);
+        } catch (DuplicatePrescriptionException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
     }
 
 }
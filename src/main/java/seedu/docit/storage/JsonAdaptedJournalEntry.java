@@ -0,0 +1,112 @@
+package seedu.docit.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.docit.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a line of a journal. The first line of a journal identifies the snapshot it follows
+ * and every later line records one {@link ListEdit} of a patient or appointment.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final Long snapshotChecksum;
+    private final ListEdit.Kind kind;
+    private final Integer index;
+    private final JsonAdaptedPatient patient;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                   @JsonProperty("kind") ListEdit.Kind kind, @JsonProperty("index") Integer index,
+                                   @JsonProperty("patient") JsonAdaptedPatient patient,
+                                   @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.snapshotChecksum = snapshotChecksum;
+        this.kind = kind;
+        this.index = index;
+        this.patient = patient;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns the first line of a journal that follows the snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalEntry header(long snapshotChecksum) {
+        return new JsonAdaptedJournalEntry(snapshotChecksum, null, null, null, null);
+    }
+
+    /**
+     * Returns a journal line recording a change to a patient.
+     */
+    public static JsonAdaptedJournalEntry ofPatient(ListEdit.Kind kind, int index, JsonAdaptedPatient patient) {
+        return new JsonAdaptedJournalEntry(null, kind, index < 0 ? null : index, patient, null);
+    }
+
+    /**
+     * Returns a journal line recording a change to an appointment.
+     */
+    public static JsonAdaptedJournalEntry ofAppointment(ListEdit.Kind kind, int index,
+                                                        JsonAdaptedAppointment appointment) {
+        return new JsonAdaptedJournalEntry(null, kind, index < 0 ? null : index, null, appointment);
+    }
+
+    public Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Returns the kind of change recorded by this entry.
+     *
+     * @throws IllegalValueException if this entry does not record a change.
+     */
+    public ListEdit.Kind getKind() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        return kind;
+    }
+
+    /**
+     * Returns the position of the changed record.
+     *
+     * @throws IllegalValueException if this entry has no position.
+     */
+    public int getIndex() throws IllegalValueException {
+        if (index == null || index < 0) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        return index;
+    }
+
+    /**
+     * Returns the appended or replacement patient.
+     *
+     * @throws IllegalValueException if this entry has no patient.
+     */
+    public JsonAdaptedPatient getPatient() throws IllegalValueException {
+        if (patient == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "patient"));
+        }
+        return patient;
+    }
+
+    /**
+     * Returns the appended or replacement appointment.
+     *
+     * @throws IllegalValueException if this entry has no appointment.
+     */
+    public JsonAdaptedAppointment getAppointment() throws IllegalValueException {
+        if (appointment == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "appointment"));
+        }
+        return appointment;
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.docit.storage;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -39,7 +38,7 @@ public class JsonAdaptedMedicalEntry {
      * Converts this Jackson-friendly adapted MedicalEntry object into the model's {@code MedicalHistory} object.
      **/
     public MedicalHistory.MedicalEntry toModelType() throws IllegalValueException {
-        LocalDate dateOfRecord = LocalDate.parse(date, DateTimeFormatter.ofPattern("d MMM uuuu"));
+        LocalDate dateOfRecord = LocalDate.parse(date, MedicalHistory.MedicalEntry.DATE_FORMATTER);
         return new MedicalHistory.MedicalEntry(description, dateOfRecord);
     }
 }
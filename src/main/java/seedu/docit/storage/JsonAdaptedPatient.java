@@ -1,9 +1,11 @@
 package seedu.docit.storage;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.docit.commons.exceptions.IllegalValueException;
@@ -12,6 +14,7 @@ import seedu.docit.model.patient.Email;
 import seedu.docit.model.patient.MedicalHistory;
 import seedu.docit.model.patient.Name;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 import seedu.docit.model.patient.Phone;
 
 /**
@@ -21,19 +24,31 @@ public class JsonAdaptedPatient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Patient's %s field is missing!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedMedicalEntry> medicalHistory;
 
+    /**
+     * Constructs a {@code JsonAdaptedPatient} with the given patient details and no ID.
+     */
+    public JsonAdaptedPatient(String name, String phone, String email, String address,
+                              List<JsonAdaptedMedicalEntry> medicalHistory) {
+        this(null, name, phone, email, address, medicalHistory);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPatient} with the given patient details.
      */
     @JsonCreator
-    public JsonAdaptedPatient(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPatient(@JsonProperty("id") String id,
+                              @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email, @JsonProperty("docit") String address,
                               @JsonProperty("medicalHistory") List<JsonAdaptedMedicalEntry> medicalHistory) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -43,9 +58,17 @@ public class JsonAdaptedPatient {
     }
 
     /**
-     * Converts a given {@code Patient} into this class for Jackson use.
+     * Converts a given {@code Patient} into this class for Jackson use, without its ID.
      */
     public JsonAdaptedPatient(Patient source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Patient} with the given ID into this class for Jackson use.
+     */
+    public JsonAdaptedPatient(Patient source, PatientId sourceId) {
+        id = sourceId == null ? null : sourceId.toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -58,6 +81,21 @@ public class JsonAdaptedPatient {
                             .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the model's {@code PatientId} of this patient, or {@code Optional.empty()} if it was saved without one.
+     *
+     * @throws IllegalValueException if the ID is not valid.
+     */
+    public Optional<PatientId> toModelId() throws IllegalValueException {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (!PatientId.isValidPatientId(id)) {
+            throw new IllegalValueException(PatientId.MESSAGE_CONSTRAINTS);
+        }
+        return Optional.of(new PatientId(id));
+    }
+
     /**
      * Converts this Jackson-friendly adapted patient object into the model's {@code Patient} object.
      *
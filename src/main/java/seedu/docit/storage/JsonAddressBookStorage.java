@@ -5,11 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
 import seedu.docit.commons.exceptions.DataConversionException;
-import seedu.docit.commons.exceptions.IllegalValueException;
 import seedu.docit.commons.util.FileUtil;
 import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.ReadOnlyAddressBook;
@@ -19,12 +17,20 @@ import seedu.docit.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
+    private StorageFormat format;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, StorageFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} in the given format.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageFormat format) {
+        requireNonNull(format);
         this.filePath = filePath;
+        this.format = format;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +51,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readModelType);
     }
 
     @Override
@@ -73,8 +68,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, format);
     }
 
 }
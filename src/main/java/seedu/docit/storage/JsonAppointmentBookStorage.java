@@ -5,11 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
 import seedu.docit.commons.exceptions.DataConversionException;
-import seedu.docit.commons.exceptions.IllegalValueException;
 import seedu.docit.commons.util.FileUtil;
 import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.ReadOnlyAddressBook;
@@ -20,12 +18,20 @@ import seedu.docit.model.ReadOnlyAppointmentBook;
  */
 public class JsonAppointmentBookStorage implements AppointmentBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAppointmentBookStorage.class);
-
     private Path filePath;
+    private StorageFormat format;
 
     public JsonAppointmentBookStorage(Path filePath) {
+        this(filePath, StorageFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonAppointmentBookStorage} that saves to {@code filePath} in the given format.
+     */
+    public JsonAppointmentBookStorage(Path filePath, StorageFormat format) {
+        requireNonNull(format);
         this.filePath = filePath;
+        this.format = format;
     }
 
     public Path getAppointmentBookFilePath() {
@@ -49,18 +55,8 @@ public class JsonAppointmentBookStorage implements AppointmentBookStorage {
         throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAppointmentBook> jsonAppointmentBook =
-            JsonUtil.readJsonFile(filePath, JsonSerializableAppointmentBook.class);
-        if (!jsonAppointmentBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAppointmentBook.get().toModelType(addressBook));
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, parser ->
+            JsonSerializableAppointmentBook.readModelType(parser, addressBook));
     }
 
     @Override
@@ -80,8 +76,8 @@ public class JsonAppointmentBookStorage implements AppointmentBookStorage {
         requireNonNull(appointmentBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAppointmentBook(appointmentBook, addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAppointmentBook(appointmentBook, addressBook), filePath, format);
     }
 
 }
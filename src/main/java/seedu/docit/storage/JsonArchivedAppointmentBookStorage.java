@@ -5,11 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.StorageFormat;
 import seedu.docit.commons.exceptions.DataConversionException;
-import seedu.docit.commons.exceptions.IllegalValueException;
 import seedu.docit.commons.util.FileUtil;
 import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.ReadOnlyAddressBook;
@@ -20,12 +18,20 @@ import seedu.docit.model.ReadOnlyAppointmentBook;
  */
 public class JsonArchivedAppointmentBookStorage implements ArchivedAppointmentBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonArchivedAppointmentBookStorage.class);
-
     private Path filePath;
+    private StorageFormat format;
 
     public JsonArchivedAppointmentBookStorage(Path filePath) {
+        this(filePath, StorageFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonArchivedAppointmentBookStorage} that saves to {@code filePath} in the given format.
+     */
+    public JsonArchivedAppointmentBookStorage(Path filePath, StorageFormat format) {
+        requireNonNull(format);
         this.filePath = filePath;
+        this.format = format;
     }
 
     public Path getArchivedAppointmentBookFilePath() {
@@ -48,18 +54,8 @@ public class JsonArchivedAppointmentBookStorage implements ArchivedAppointmentBo
                                                                          Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableArchivedAppointmentBook> jsonAppointmentBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableArchivedAppointmentBook.class);
-        if (!jsonAppointmentBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAppointmentBook.get().toModelType(addressBook));
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, parser ->
+                JsonSerializableArchivedAppointmentBook.readModelType(parser, addressBook));
     }
 
     @Override
@@ -78,8 +74,9 @@ public class JsonArchivedAppointmentBookStorage implements ArchivedAppointmentBo
         requireNonNull(appointmentBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableArchivedAppointmentBook(appointmentBook, addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableArchivedAppointmentBook(appointmentBook, addressBook), filePath,
+                format);
     }
 
 }
@@ -1,17 +1,22 @@
 package seedu.docit.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.AddressBook;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +25,7 @@ import seedu.docit.model.patient.Patient;
 public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PATIENT = "Patient list contains duplicate patient(s).";
+    public static final String MESSAGE_DUPLICATE_PATIENT_ID = "Patient list contains patients with the same ID.";
 
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
@@ -32,12 +38,15 @@ public class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, together with the IDs of its
+     * patients.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        patients.addAll(source.getPatientList().stream().map(JsonAdaptedPatient::new).collect(Collectors.toList()));
+        patients.addAll(source.getPatientList().stream()
+            .map(patient -> new JsonAdaptedPatient(patient, source.getIdOfPatient(patient)))
+            .collect(Collectors.toList()));
     }
 
     /**
@@ -48,13 +57,43 @@ public class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (addressBook.hasPatient(patient)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
-            }
-            addressBook.addPatient(patient);
+            addToAddressBook(jsonAdaptedPatient, addressBook);
         }
         return addressBook;
     }
 
+    /**
+     * Reads a serialized address book from {@code parser} straight into the model's {@code AddressBook} object,
+     * converting one patient at a time instead of first reading the whole list of patients.
+     *
+     * @throws IOException if the json is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        JsonUtil.readArrayField(parser, "patients", JsonAdaptedPatient.class, jsonAdaptedPatient ->
+            addToAddressBook(jsonAdaptedPatient, addressBook));
+        return addressBook;
+    }
+
+    /**
+     * Adds the patient to {@code addressBook} with its saved ID. Patients saved without an ID, as in files written
+     * before IDs were introduced, are given the next free ID. In such files, that is the patient's position.
+     */
+    private static void addToAddressBook(JsonAdaptedPatient jsonAdaptedPatient, AddressBook addressBook)
+            throws IllegalValueException {
+        Patient patient = jsonAdaptedPatient.toModelType();
+        if (addressBook.hasPatient(patient)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
+        }
+        Optional<PatientId> id = jsonAdaptedPatient.toModelId();
+        if (id.isEmpty()) {
+            addressBook.addPatient(patient);
+        } else if (addressBook.getPatientOfId(id.get()) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT_ID);
+        } else {
+            addressBook.addPatient(patient, id.get());
+        }
+    }
+
 }
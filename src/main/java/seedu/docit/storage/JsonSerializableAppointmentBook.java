@@ -1,5 +1,6 @@
 package seedu.docit.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.AppointmentBook;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.ReadOnlyAppointmentBook;
@@ -52,13 +55,34 @@ public class JsonSerializableAppointmentBook {
     public AppointmentBook toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
         AppointmentBook appointmentBook = new AppointmentBook();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType(addressBook);
-            if (appointmentBook.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            appointmentBook.addAppointment(appointment);
+            addToAppointmentBook(jsonAdaptedAppointment, appointmentBook, addressBook);
         }
         return appointmentBook;
     }
 
+    /**
+     * Reads a serialized appointment book from {@code parser} straight into the model's {@code AppointmentBook}
+     * object, converting one appointment at a time instead of first reading the whole list of appointments.
+     *
+     * @param addressBook {@code AddressBook} that the appointment book references
+     * @throws IOException if the json is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AppointmentBook readModelType(JsonParser parser, ReadOnlyAddressBook addressBook)
+        throws IOException, IllegalValueException {
+        AppointmentBook appointmentBook = new AppointmentBook();
+        JsonUtil.readArrayField(parser, "appointments", JsonAdaptedAppointment.class, jsonAdaptedAppointment ->
+            addToAppointmentBook(jsonAdaptedAppointment, appointmentBook, addressBook));
+        return appointmentBook;
+    }
+
+    private static void addToAppointmentBook(JsonAdaptedAppointment jsonAdaptedAppointment,
+        AppointmentBook appointmentBook, ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        Appointment appointment = jsonAdaptedAppointment.toModelType(addressBook);
+        if (appointmentBook.hasAppointment(appointment)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        appointmentBook.addAppointment(appointment);
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.docit.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.ArchivedAppointmentBook;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.ReadOnlyAppointmentBook;
@@ -22,15 +25,26 @@ class JsonSerializableArchivedAppointmentBook {
 
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "Appointments list contains duplicate appointment(s).";
 
+    /** Field the appointments were saved under by older versions, before it was named like that of upcoming ones. */
+    private static final String LEGACY_APPOINTMENTS_FIELD = "archivedAppointments";
+
+    @JsonProperty("appointments")
     private final List<JsonAdaptedAppointment> archivedAppointments = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAppointmentBook} with the given appointments.
+     * Constructs a {@code JsonSerializableAppointmentBook} with the given appointments. Files saved by older versions
+     * hold the appointments under {@code archivedAppointments} instead.
      */
     @JsonCreator
-    public JsonSerializableArchivedAppointmentBook(
-            @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
-        this.archivedAppointments.addAll(appointments);
+    private JsonSerializableArchivedAppointmentBook(
+            @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments,
+            @JsonProperty(LEGACY_APPOINTMENTS_FIELD) List<JsonAdaptedAppointment> legacyAppointments) {
+        if (appointments != null) {
+            this.archivedAppointments.addAll(appointments);
+        }
+        if (legacyAppointments != null) {
+            this.archivedAppointments.addAll(legacyAppointments);
+        }
     }
 
     /**
@@ -52,13 +66,34 @@ class JsonSerializableArchivedAppointmentBook {
     public ArchivedAppointmentBook toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
         ArchivedAppointmentBook appointmentBook = new ArchivedAppointmentBook();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : archivedAppointments) {
-            Appointment archivedAppointment = jsonAdaptedAppointment.toModelType(addressBook);
-            if (appointmentBook.hasAppointment(archivedAppointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            appointmentBook.addAppointment(archivedAppointment);
+            addToAppointmentBook(jsonAdaptedAppointment, appointmentBook, addressBook);
         }
         return appointmentBook;
     }
 
+    /**
+     * Reads a serialized archived appointment book from {@code parser} straight into the model's
+     * {@code ArchivedAppointmentBook} object, converting one appointment at a time.
+     *
+     * @throws IOException if the json is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ArchivedAppointmentBook readModelType(JsonParser parser, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        ArchivedAppointmentBook appointmentBook = new ArchivedAppointmentBook();
+        List<String> fieldNames = List.of("appointments", LEGACY_APPOINTMENTS_FIELD);
+        JsonUtil.readArrayField(parser, fieldNames, JsonAdaptedAppointment.class, jsonAdaptedAppointment ->
+            addToAppointmentBook(jsonAdaptedAppointment, appointmentBook, addressBook));
+        return appointmentBook;
+    }
+
+    private static void addToAppointmentBook(JsonAdaptedAppointment jsonAdaptedAppointment,
+            ArchivedAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook) throws IllegalValueException {
+        Appointment archivedAppointment = jsonAdaptedAppointment.toModelType(addressBook);
+        if (appointmentBook.hasAppointment(archivedAppointment)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        appointmentBook.addAppointment(archivedAppointment);
+    }
+
 }
@@ -0,0 +1,137 @@
+package seedu.docit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A single change to a list of unique records: appending a record, replacing the record at a position or removing
+ * the record at a position.
+ */
+class ListEdit<T> {
+
+    /**
+     * The kinds of change a {@code ListEdit} can make.
+     */
+    enum Kind { ADD, SET, REMOVE }
+
+    private final Kind kind;
+    private final int index;
+    private final T record;
+
+    private ListEdit(Kind kind, int index, T record) {
+        this.kind = kind;
+        this.index = index;
+        this.record = record;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position of the changed record, or -1 if a record is appended.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the appended or replacement record, or null if a record is removed.
+     */
+    public T getRecord() {
+        return record;
+    }
+
+    /**
+     * Returns the edits that turn {@code from} into {@code to} when applied in order, or {@code Optional.empty()} if
+     * {@code to} reorders records of {@code from} or inserts records anywhere but the end.
+     * Neither list may contain two records with the same identity, as given by {@code identityOf}, and no edit makes
+     * a list contain two such records at once. Runs in time linear in the sizes of the lists.
+     */
+    static <T> Optional<List<ListEdit<T>>> between(List<T> from, List<T> to, Function<T, ?> identityOf) {
+        return between(from, to, identityOf, Object::equals, HashSet::new);
+    }
+
+    /**
+     * Similar to {@link #between(List, List, Function)}, but a record is only taken to be unchanged if it is the same
+     * object, so that records are never compared field by field. This suits immutable records, which are replaced by
+     * new objects whenever they change.
+     */
+    static <T> Optional<List<ListEdit<T>>> betweenSameObjects(List<T> from, List<T> to, Function<T, ?> identityOf) {
+        return between(from, to, identityOf, (oldRecord, newRecord) -> oldRecord == newRecord, records -> {
+            Set<T> recordSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            recordSet.addAll(records);
+            return recordSet;
+        });
+    }
+
+    private static <T> Optional<List<ListEdit<T>>> between(List<T> from, List<T> to, Function<T, ?> identityOf,
+                                                           BiPredicate<T, T> isSame,
+                                                           Function<List<T>, Set<T>> setOf) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(identityOf);
+
+        Set<T> fromRecords = setOf.apply(from);
+        Set<T> toRecords = setOf.apply(to);
+        Set<Object> fromIdentities = from.stream().map(identityOf).collect(Collectors.toSet());
+        List<ListEdit<T>> edits = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        int position = 0;
+        while (i < from.size() && j < to.size()) {
+            T oldRecord = from.get(i);
+            T newRecord = to.get(j);
+            if (isSame.test(oldRecord, newRecord)) {
+                i++;
+                j++;
+                position++;
+            } else if (!toRecords.contains(oldRecord) && !fromRecords.contains(newRecord)
+                && canReplace(oldRecord, newRecord, identityOf, fromIdentities)) {
+                edits.add(new ListEdit<>(Kind.SET, position, newRecord));
+                i++;
+                j++;
+                position++;
+            } else if (!toRecords.contains(oldRecord)) {
+                edits.add(new ListEdit<>(Kind.REMOVE, position, null));
+                i++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        for (; i < from.size(); i++) {
+            if (toRecords.contains(from.get(i))) {
+                return Optional.empty();
+            }
+            edits.add(new ListEdit<>(Kind.REMOVE, position, null));
+        }
+        for (; j < to.size(); j++) {
+            if (fromRecords.contains(to.get(j))) {
+                return Optional.empty();
+            }
+            edits.add(new ListEdit<>(Kind.ADD, -1, to.get(j)));
+        }
+        return Optional.of(edits);
+    }
+
+    /**
+     * Returns true if replacing {@code oldRecord} with {@code newRecord} cannot clash with the identity of a record
+     * that is yet to be removed.
+     */
+    private static <T> boolean canReplace(T oldRecord, T newRecord, Function<T, ?> identityOf,
+                                          Set<Object> fromIdentities) {
+        Object newIdentity = identityOf.apply(newRecord);
+        return newIdentity.equals(identityOf.apply(oldRecord)) || !fromIdentities.contains(newIdentity);
+    }
+}
@@ -52,4 +52,10 @@ public interface Storage extends AddressBookStorage, AppointmentBookStorage,
     @Override
     void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
                                      ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Ensures that all saves made so far have been written to the storage.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void flush() throws IOException;
 }
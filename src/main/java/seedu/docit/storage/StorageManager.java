@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.core.MetricsCenter;
 import seedu.docit.commons.exceptions.DataConversionException;
 import seedu.docit.model.ReadOnlyAddressBook;
 import seedu.docit.model.ReadOnlyAppointmentBook;
@@ -80,7 +81,12 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        long start = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } finally {
+            MetricsCenter.recordTime("save address book", System.nanoTime() - start);
+        }
     }
 
 
@@ -134,13 +140,18 @@ public class StorageManager implements Storage {
     public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook,
         Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        appointmentBookStorage.saveAppointmentBook(appointmentBook, addressBook, filePath);
+        long start = System.nanoTime();
+        try {
+            appointmentBookStorage.saveAppointmentBook(appointmentBook, addressBook, filePath);
+        } finally {
+            MetricsCenter.recordTime("save appointment book", System.nanoTime() - start);
+        }
     }
 
     @Override
     public void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
                                             ReadOnlyAddressBook addressBook) throws IOException {
-        saveAppointmentBook(archivedAppointmentBook, addressBook,
+        saveArchivedAppointmentBook(archivedAppointmentBook, addressBook,
                 archivedAppointmentBookStorage.getArchivedAppointmentBookFilePath());
     }
 
@@ -148,6 +159,16 @@ public class StorageManager implements Storage {
     public void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
                                             ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        archivedAppointmentBookStorage.saveArchivedAppointmentBook(archivedAppointmentBook, addressBook, filePath);
+        long start = System.nanoTime();
+        try {
+            archivedAppointmentBookStorage.saveArchivedAppointmentBook(archivedAppointmentBook, addressBook, filePath);
+        } finally {
+            MetricsCenter.recordTime("save archived appointment book", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Saves are written to the storage immediately, so there is nothing to flush.
     }
 }
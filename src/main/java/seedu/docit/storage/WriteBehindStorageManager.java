@@ -0,0 +1,287 @@
+package seedu.docit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.ReadOnlyAppointmentBook;
+import seedu.docit.model.ReadOnlyUserPrefs;
+import seedu.docit.model.UserPrefs;
+
+/**
+ * Manages storage of AddressBook data in local storage, writing books to disk on a background thread.
+ * <p>
+ * Saving a book takes a snapshot of it on the calling thread and queues the write. The snapshot shares the immutable
+ * patients and appointments of the book rather than copying them. All writes queued within {@code saveDelayMillis}
+ * of the first queued write are merged, so that each file is written at most once per interval with the latest
+ * snapshot of its book. A write that fails stays queued until it succeeds or a later save to the same file replaces
+ * it. It is retried with the next save or flush, or else after a delay that doubles with each failure in a row, from
+ * at least {@code saveDelayMillis} up to a minute. Its failure is reported by the next call that saves or flushes,
+ * unless it has been written by then.
+ * User prefs are always written immediately.
+ */
+public class WriteBehindStorageManager implements Storage {
+
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final Storage storage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private IOException failedWrite;
+    /** Delay before the last failed writes are retried, or 0 if the last writes succeeded. */
+    private long retryDelayMillis;
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes through {@code storage} at most
+     * {@code saveDelayMillis} after each change.
+     */
+    public WriteBehindStorageManager(Storage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        queueWrite(filePath, () -> storage.saveAddressBook(snapshot, filePath));
+    }
+
+    // ================ AppointmentBook methods ==============================
+
+    @Override
+    public Path getAppointmentBookFilePath() {
+        return storage.getAppointmentBookFilePath();
+    }
+
+    @Override
+    public Path getArchivedAppointmentBookFilePath() {
+        return storage.getArchivedAppointmentBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readAppointmentBook(ReadOnlyAddressBook addressBook)
+        throws DataConversionException, IOException {
+        return readAppointmentBook(addressBook, storage.getAppointmentBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readAppointmentBook(ReadOnlyAddressBook addressBook, Path filePath)
+        throws DataConversionException, IOException {
+        flush();
+        return storage.readAppointmentBook(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readArchivedAppointmentBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        return readArchivedAppointmentBook(addressBook, storage.getArchivedAppointmentBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentBook> readArchivedAppointmentBook(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readArchivedAppointmentBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook)
+        throws IOException {
+        saveAppointmentBook(appointmentBook, addressBook, storage.getAppointmentBookFilePath());
+    }
+
+    @Override
+    public void saveAppointmentBook(ReadOnlyAppointmentBook appointmentBook, ReadOnlyAddressBook addressBook,
+        Path filePath) throws IOException {
+        requireNonNull(appointmentBook);
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAppointmentBook snapshot = appointmentBook.snapshot();
+        ReadOnlyAddressBook addressBookSnapshot = addressBook.snapshot();
+        queueWrite(filePath, () -> storage.saveAppointmentBook(snapshot, addressBookSnapshot, filePath));
+    }
+
+    @Override
+    public void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
+                                            ReadOnlyAddressBook addressBook) throws IOException {
+        saveArchivedAppointmentBook(archivedAppointmentBook, addressBook,
+                storage.getArchivedAppointmentBookFilePath());
+    }
+
+    @Override
+    public void saveArchivedAppointmentBook(ReadOnlyAppointmentBook archivedAppointmentBook,
+                                            ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(archivedAppointmentBook);
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAppointmentBook snapshot = archivedAppointmentBook.snapshot();
+        ReadOnlyAddressBook addressBookSnapshot = addressBook.snapshot();
+        queueWrite(filePath, () -> storage.saveArchivedAppointmentBook(snapshot, addressBookSnapshot, filePath));
+    }
+
+    // ================ Write-behind methods ==============================
+
+    /**
+     * Writes all queued saves to disk, including those that failed before, and waits for them to complete.
+     *
+     * @throws IOException if any write since the last save or flush failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing data to disk", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwFailedWrite();
+    }
+
+    /**
+     * Queues {@code write} as the latest write to {@code filePath}, replacing any write to it that is still queued.
+     *
+     * @throws IOException if any write since the last save or flush failed. {@code write} is queued regardless.
+     */
+    private synchronized void queueWrite(Path filePath, PendingWrite write) throws IOException {
+        pendingWrites.put(filePath, write);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePending, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        throwFailedWrite();
+    }
+
+    /**
+     * Performs all queued writes. A write that fails is queued again, unless a later write to the same file has been
+     * queued since, and the queued writes are retried after a delay. Runs on the writer thread.
+     */
+    private void writePending() {
+        Map<Path, PendingWrite> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isWriteScheduled = false;
+        }
+
+        boolean hasFailed = false;
+        for (Map.Entry<Path, PendingWrite> write : writes.entrySet()) {
+            try {
+                write.getValue().run();
+            } catch (IOException ioe) {
+                logger.warning("Failed to write data to disk: " + ioe);
+                hasFailed = true;
+                synchronized (this) {
+                    pendingWrites.putIfAbsent(write.getKey(), write.getValue());
+                    failedWrite = ioe;
+                }
+            }
+        }
+
+        synchronized (this) {
+            if (!hasFailed) {
+                // Every write that failed before has now been written, or replaced by a later write that was.
+                failedWrite = null;
+                retryDelayMillis = 0;
+                return;
+            }
+            retryDelayMillis = retryDelayMillis == 0
+                ? Math.max(saveDelayMillis, MIN_RETRY_DELAY_MILLIS)
+                : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writePending, retryDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of the last write that failed, if it has not already been reported.
+     */
+    private synchronized void throwFailedWrite() throws IOException {
+        if (failedWrite != null) {
+            IOException toThrow = failedWrite;
+            failedWrite = null;
+            throw toThrow;
+        }
+    }
+
+    /**
+     * A write of a snapshot of a book to disk.
+     */
+    @FunctionalInterface
+    private interface PendingWrite {
+        void run() throws IOException;
+    }
+}
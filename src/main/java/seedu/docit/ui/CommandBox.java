@@ -1,5 +1,7 @@
 package seedu.docit.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -7,8 +9,6 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.docit.logic.Logic;
 import seedu.docit.logic.commands.CommandResult;
-import seedu.docit.logic.commands.exceptions.CommandException;
-import seedu.docit.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -46,12 +46,14 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // Keeps anything the user started typing while the command was running.
+                commandTextField.setText("");
+            }
+        });
     }
 
     /**
@@ -80,11 +82,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command for execution, and returns a future that is completed on the JavaFX application thread
+         * with the result, or with the {@code CommandException} or {@code ParseException} the command failed with.
          *
          * @see Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,115 @@
+package seedu.docit.ui;
+
+import static seedu.docit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list of the model that is only changed on the JavaFX application thread, for the UI to show.
+ * <p>
+ * The model's lists are only changed on the model thread. After a task of the model executor changes the list, the
+ * list is copied on the model thread, and the copy is published to the JavaFX thread, where only the part of this
+ * list that differs from the copy is replaced. Changes made in quick succession are published together.
+ */
+class FxThreadList<T> {
+
+    private final ObservableList<T> source;
+    private final Executor modelExecutor;
+    private final Executor fxExecutor;
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+    private final AtomicReference<List<T>> pendingCopy = new AtomicReference<>();
+
+    /** Whether a copy of the source list is queued on the model executor. Only accessed on the model thread. */
+    private boolean isCopyQueued;
+
+    /**
+     * Creates a copy of {@code source}, a list that is only changed through {@code modelExecutor}. Must be called
+     * on the JavaFX application thread.
+     */
+    FxThreadList(ObservableList<T> source, Executor modelExecutor) {
+        this(source, modelExecutor, Platform::runLater);
+    }
+
+    /**
+     * Creates a copy of {@code source}, a list that is only changed through {@code modelExecutor}, that is changed
+     * through {@code fxExecutor}. Must be called from the thread of {@code fxExecutor}.
+     */
+    FxThreadList(ObservableList<T> source, Executor modelExecutor, Executor fxExecutor) {
+        requireAllNonNull(source, modelExecutor, fxExecutor);
+        this.source = source;
+        this.modelExecutor = modelExecutor;
+        this.fxExecutor = fxExecutor;
+
+        List<T> initialItems = CompletableFuture.supplyAsync(() -> {
+            source.addListener((ListChangeListener<T>) change -> queueCopy());
+            return new ArrayList<>(source);
+        }, modelExecutor).join();
+        items.setAll(initialItems);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy.
+     */
+    ObservableList<T> getItems() {
+        return unmodifiableItems;
+    }
+
+    /**
+     * Queues a copy of the source list to be taken once the current task of the model executor has finished, unless
+     * one is already queued.
+     */
+    private void queueCopy() {
+        if (isCopyQueued) {
+            return;
+        }
+        isCopyQueued = true;
+        try {
+            modelExecutor.execute(this::copy);
+        } catch (RejectedExecutionException e) {
+            // The app is stopping, so there is no need to show the change.
+            isCopyQueued = false;
+        }
+    }
+
+    private void copy() {
+        isCopyQueued = false;
+        if (pendingCopy.getAndSet(new ArrayList<>(source)) == null) {
+            fxExecutor.execute(this::publish);
+        }
+    }
+
+    /**
+     * Replaces the part of this list that differs from the latest copy of the source list.
+     */
+    private void publish() {
+        List<T> copy = pendingCopy.getAndSet(null);
+        int commonLength = Math.min(items.size(), copy.size());
+        int prefix = 0;
+        while (prefix < commonLength && items.get(prefix) == copy.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonLength - prefix
+                && items.get(items.size() - 1 - suffix) == copy.get(copy.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        if (prefix < items.size() - suffix) {
+            items.remove(prefix, items.size() - suffix);
+        }
+        if (prefix < copy.size() - suffix) {
+            items.addAll(prefix, copy.subList(prefix, copy.size() - suffix));
+        }
+    }
+}
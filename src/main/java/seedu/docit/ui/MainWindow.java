@@ -1,6 +1,7 @@
 package seedu.docit.ui;
 
 import java.io.FileNotFoundException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -17,10 +18,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.docit.commons.core.GuiSettings;
 import seedu.docit.commons.core.LogsCenter;
+import seedu.docit.commons.util.StringUtil;
 import seedu.docit.logic.Logic;
 import seedu.docit.logic.commands.CommandResult;
 import seedu.docit.logic.commands.exceptions.CommandException;
 import seedu.docit.logic.parser.exceptions.ParseException;
+import seedu.docit.model.ModelExecutor;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -34,6 +37,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private ModelExecutor modelExecutor;
 
     // Independent Ui parts residing in this Ui container
     private PatientListPanel patientListPanel;
@@ -70,17 +74,19 @@ public class MainWindow extends UiPart<Stage> {
     private TabPane tabsPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}. The {@code Logic} is only used
+     * on the thread of {@code modelExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, ModelExecutor modelExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.modelExecutor = modelExecutor;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(CompletableFuture.supplyAsync(logic::getGuiSettings, modelExecutor).join());
 
         setAccelerators();
 
@@ -144,13 +150,17 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList());
+        // The lists of the model are changed on the model thread, so the panels show copies of them instead.
+        patientListPanel = new PatientListPanel(
+                new FxThreadList<>(logic.getFilteredPatientList(), modelExecutor).getItems());
         patientListPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
 
-        appointmentListPanel = new AppointmentListPanel(logic.getFilteredAppointmentList());
+        appointmentListPanel = new AppointmentListPanel(
+                new FxThreadList<>(logic.getFilteredAppointmentList(), modelExecutor).getItems());
         apptListPanelPlaceholder.getChildren().add(appointmentListPanel.getRoot());
 
-        archivedAppointmentListPanel = new AppointmentListPanel(logic.getArchivedAppointmentList());
+        archivedAppointmentListPanel = new AppointmentListPanel(
+                new FxThreadList<>(logic.getArchivedAppointmentList(), modelExecutor).getItems());
         archiveListPanelPlaceholder.getChildren().add(archivedAppointmentListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -212,7 +222,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        CompletableFuture.runAsync(() -> logic.setGuiSettings(guiSettings), modelExecutor).join();
         helpWindow.hide();
         primaryStage.hide();
         Platform.exit();
@@ -224,33 +234,49 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command for execution on the model thread, and shows the result once it has been executed. The
+     * returned future is completed on the JavaFX application thread, after the result is shown.
      *
      * @see Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            } else if (commandResult.isShowArchived()) {
-                handleShowArchivedTab();
-            } else {
-                handleShowUpcomingTab();
-            }
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        modelExecutor.submit(() -> logic.execute(commandText)).whenComplete((commandResult, error) ->
+                Platform.runLater(() -> {
+                    if (error == null) {
+                        showCommandResult(commandResult);
+                        shownResult.complete(commandResult);
+                    } else {
+                        showCommandFailure(commandText, error);
+                        shownResult.completeExceptionally(error);
+                    }
+                }));
+        return shownResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void showCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        } else if (commandResult.isShowArchived()) {
+            handleShowArchivedTab();
+        } else {
+            handleShowUpcomingTab();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void showCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.severe("Command failed unexpectedly: " + commandText + " " + StringUtil.getDetails(error));
         }
+        resultDisplay.setFeedbackToUser(error.getMessage());
     }
 }
@@ -11,6 +11,7 @@ import seedu.docit.MainApp;
 import seedu.docit.commons.core.LogsCenter;
 import seedu.docit.commons.util.StringUtil;
 import seedu.docit.logic.Logic;
+import seedu.docit.model.ModelExecutor;
 
 /**
  * The manager of the UI component.
@@ -22,14 +23,17 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
 
     private Logic logic;
+    private ModelExecutor modelExecutor;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, that executes commands through
+     * {@code modelExecutor}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, ModelExecutor modelExecutor) {
         super();
         this.logic = logic;
+        this.modelExecutor = modelExecutor;
     }
 
     @Override
@@ -37,7 +41,7 @@ public class UiManager implements Ui {
         logger.info("Starting UI...");
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, modelExecutor);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
             mainWindow.fillButtons();
@@ -0,0 +1,63 @@
+package seedu.docit.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.docit.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_invalidPercent_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(101));
+    }
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        assertEquals(8, histogram.getCount());
+        assertEquals(28, histogram.getSum());
+        assertEquals(7, histogram.getMax());
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinBucketError() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 1.125, "median was " + median);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.125, "p99 was " + p99);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void bucketOf_highestValueOf_consistent() {
+        long[] values = {8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(value <= Histogram.highestValueOf(bucket));
+            assertTrue(bucket == 0 || value > Histogram.highestValueOf(bucket - 1));
+        }
+    }
+}
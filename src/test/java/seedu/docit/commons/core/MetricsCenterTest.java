@@ -0,0 +1,48 @@
+package seedu.docit.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.docit.commons.util.FileUtil;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void report_recordedMetrics_listsEachMetric() {
+        MetricsCenter.recordTime("execute TestCommand", 2_000_000);
+        MetricsCenter.recordSize("write test.json", 1234);
+
+        String report = MetricsCenter.report();
+        assertTrue(report.contains("execute TestCommand"));
+        assertTrue(report.contains("2.00"));
+        assertTrue(report.contains("write test.json"));
+        assertTrue(report.contains("1234"));
+    }
+
+    @Test
+    public void stop_metricsFileConfigured_writesReport() throws IOException {
+        Path metricsFile = testFolder.resolve("metrics.txt");
+        Config config = new Config();
+        config.setMetricsFilePath(metricsFile);
+        config.setMetricsDumpIntervalSeconds(0);
+        MetricsCenter.init(config);
+        MetricsCenter.recordTime("parse TestCommand", 1000);
+
+        MetricsCenter.stop();
+        assertTrue(FileUtil.readFromFile(metricsFile).contains("parse TestCommand"));
+    }
+}
@@ -1,13 +1,20 @@
 package seedu.docit.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +27,25 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_createsFile() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_keepsPreviousContentAsBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        FileUtil.writeToFileAtomically(file, "third");
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt.tmp")));
+    }
+
 }
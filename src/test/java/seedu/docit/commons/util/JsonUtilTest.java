@@ -1,12 +1,21 @@
 package seedu.docit.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.docit.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.docit.commons.core.StorageFormat;
+import seedu.docit.commons.exceptions.DataConversionException;
+import seedu.docit.commons.exceptions.IllegalValueException;
 import seedu.docit.testutil.SerializableTestClass;
 import seedu.docit.testutil.TestUtil;
 
@@ -17,6 +26,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +51,76 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonFile_truncatedFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, filePath);
+        JsonUtil.saveJsonFile(serializableTestClass, filePath);
+        FileUtil.writeToFile(filePath, SerializableTestClass.JSON_STRING_REPRESENTATION.substring(0, 20));
+
+        SerializableTestClass readBack = JsonUtil.readJsonFile(filePath, SerializableTestClass.class).get();
+
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+    }
+
+    @Test
+    public void readJsonFile_illegalValuesWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("illegal.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, filePath);
+        JsonUtil.saveJsonFile(serializableTestClass, filePath);
+        AtomicInteger readCount = new AtomicInteger();
+
+        // Rejects the values of the first file read, which is the file itself rather than its backup
+        SerializableTestClass readBack = JsonUtil.readJsonFile(filePath, parser -> {
+            SerializableTestClass value = parser.readValueAs(SerializableTestClass.class);
+            if (readCount.getAndIncrement() == 0) {
+                throw new IllegalValueException("Illegal value");
+            }
+            return value;
+        }).get();
+
+        assertEquals(2, readCount.get());
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+    }
+
+    @Test
+    public void readJsonFile_truncatedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        FileUtil.writeToFile(filePath, SerializableTestClass.JSON_STRING_REPRESENTATION.substring(0, 20));
+
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(filePath, SerializableTestClass.class));
+    }
+
+    @Test
+    public void saveJsonFile_compactFormat_writesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, filePath, StorageFormat.COMPACT);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(SerializableTestClass.getNameTestValue(),
+                JsonUtil.readJsonFile(filePath, SerializableTestClass.class).get().getName());
+    }
+
+    @Test
+    public void saveJsonFile_gzipFormat_readBackWithoutKnowingFormat() throws Exception {
+        Path filePath = testFolder.resolve("compressed.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, filePath, StorageFormat.GZIP);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xff) | ((bytes[1] & 0xff) << 8));
+        SerializableTestClass readBack = JsonUtil.readJsonFile(filePath, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,6 +1,8 @@
 package seedu.docit.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.docit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.docit.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,6 +14,7 @@ import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +53,10 @@ public class LogicManagerTest {
 
     @BeforeEach
     public void setUp() {
+        logic = new LogicManager(model, createStorage());
+    }
+
+    private StorageManager createStorage() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonAppointmentBookStorage appointmentBookStorage =
@@ -57,9 +64,8 @@ public class LogicManagerTest {
         JsonArchivedAppointmentBookStorage archivedAppointmentBookStorage =
                 new JsonArchivedAppointmentBookStorage(temporaryFolder.resolve("archivedAppointmentBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, appointmentBookStorage,
-                archivedAppointmentBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        return new StorageManager(addressBookStorage, appointmentBookStorage, archivedAppointmentBookStorage,
+                userPrefsStorage);
     }
 
     @Test
@@ -82,19 +88,7 @@ public class LogicManagerTest {
 
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-        JsonAppointmentBookStorage appointmentBookStorage =
-            new JsonAppointmentBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAppointmentBook.json"));
-        JsonArchivedAppointmentBookStorage archivedAppointmentBookStorage =
-                new JsonArchivedAppointmentBookIoExceptionThrowingStub(temporaryFolder.resolve(
-                        "ioExceptionArchivedAppointmentBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, appointmentBookStorage,
-                archivedAppointmentBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        useIoExceptionThrowingStorage();
 
         // Execute add command
         String addCommand = PT_PREFIX + AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY
@@ -106,11 +100,55 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_queryCommandWithStorageThrowingIoException_doesNotSave() throws Exception {
+        useIoExceptionThrowingStorage();
+
+        String listCommand = PT_PREFIX + ListPatientCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListPatientCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_queryCommandWithUnsavedBooks_savesBooks() throws Exception {
+        logic = new LogicManager(model, createStorage(), false, true, false);
+
+        String listCommand = PT_PREFIX + ListPatientCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListPatientCommand.MESSAGE_SUCCESS, model);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("appointmentBook.json")));
+        assertTrue(Files.exists(temporaryFolder.resolve("archivedAppointmentBook.json")));
+    }
+
+    @Test
+    public void execute_queryCommandWithSavedBooks_doesNotSave() throws Exception {
+        String listCommand = PT_PREFIX + ListPatientCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, ListPatientCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
     }
 
+    /**
+     * Replaces {@code logic} with one whose storage throws an {@code IOException} on every save.
+     */
+    private void useIoExceptionThrowingStorage() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonAppointmentBookStorage appointmentBookStorage =
+            new JsonAppointmentBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAppointmentBook.json"));
+        JsonArchivedAppointmentBookStorage archivedAppointmentBookStorage =
+                new JsonArchivedAppointmentBookIoExceptionThrowingStub(temporaryFolder.resolve(
+                        "ioExceptionArchivedAppointmentBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, appointmentBookStorage,
+                archivedAppointmentBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -32,8 +32,8 @@ public class AddMedicalEntryCommandTest {
 
     @Test
     public void execute_validMedicalEntry_addSuccessful() throws CommandException {
-        Patient editedPatient =
-            new PatientBuilder(getTypicalAddressBook().getPatientOfIndex(INDEX_FIRST_PATIENT)).build();
+        Patient editedPatient = getTypicalAddressBook().getPatientOfIndex(INDEX_FIRST_PATIENT)
+            .addMedicalHistory(new MedicalHistory(DEFAULT_MEDICAL));
 
         AddMedicalEntryCommand addMedicalEntryCommand = new AddMedicalEntryCommand(INDEX_FIRST_PATIENT,
             new MedicalHistory(DEFAULT_MEDICAL));
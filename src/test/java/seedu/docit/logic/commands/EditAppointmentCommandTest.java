@@ -9,7 +9,6 @@ import static seedu.docit.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 import static seedu.docit.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
 import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import seedu.docit.logic.commands.EditAppointmentCommand.EditAppointmentDescriptor;
@@ -30,11 +29,6 @@ public class EditAppointmentCommandTest {
     private final Model model = new ModelManager(getTypicalAddressBook(), fullApptBook,
             new ArchivedAppointmentBook(), new UserPrefs());
 
-    @BeforeAll
-    public static void resetTypicalAppointments() {
-        TypicalAppointments.resetPrescriptions();
-    }
-
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditAppointmentCommand editCommand = new EditAppointmentCommand(
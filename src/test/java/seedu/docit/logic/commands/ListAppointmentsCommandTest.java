@@ -1,18 +1,29 @@
 package seedu.docit.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.docit.logic.commands.AppointmentCommandTestUtil.showAppointmentAtIndex;
 import static seedu.docit.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.docit.testutil.TypicalAppointments.getTypicalAppointmentBook;
 import static seedu.docit.testutil.TypicalIndexes.INDEX_FIRST_APPOINTMENT;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
 import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.docit.model.AppointmentBook;
 import seedu.docit.model.ArchivedAppointmentBook;
 import seedu.docit.model.Model;
 import seedu.docit.model.ModelManager;
 import seedu.docit.model.UserPrefs;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.prescription.Prescription;
 
 
 /**
@@ -20,6 +31,11 @@ import seedu.docit.model.UserPrefs;
  */
 public class ListAppointmentsCommandTest {
 
+    private static final Appointment FUTURE_A1 = new Appointment(ALICE, LocalDateTime.of(2099, 1, 1, 16, 0));
+    private static final Appointment FUTURE_A2 = new Appointment(ALICE, LocalDateTime.of(2099, 2, 2, 9, 0));
+    private static final Appointment FUTURE_B1 = new Appointment(BENSON, LocalDateTime.of(2099, 1, 1, 16, 0));
+    private static final Appointment FUTURE_B2 = new Appointment(BENSON, LocalDateTime.of(2099, 2, 1, 23, 59));
+
     private Model model;
     private Model expectedModel;
 
@@ -43,4 +59,50 @@ public class ListAppointmentsCommandTest {
         assertCommandSuccess(new ListAppointmentsCommand(), model,
             ListAppointmentsCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_dateRange_showsAppointmentsOnThoseDays() {
+        setUpFutureAppointments();
+        List<Appointment> inRange = Arrays.asList(FUTURE_A1, FUTURE_B1, FUTURE_B2);
+        expectedModel.updateFilteredAppointmentList(inRange::contains);
+        String expectedMessage = String.format(ListAppointmentsCommand.MESSAGE_SUCCESS_PERIOD, 3,
+            "1 Jan 2099", "1 Feb 2099");
+        assertCommandSuccess(new ListAppointmentsCommand(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 2, 1)),
+            model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_dateRangeWithoutAppointments_showsNoAppointments() {
+        setUpFutureAppointments();
+        expectedModel.updateFilteredAppointmentList(appointment -> false);
+        String expectedMessage = String.format(ListAppointmentsCommand.MESSAGE_SUCCESS_PERIOD, 0,
+            "2 Jan 2099", "31 Jan 2099");
+        assertCommandSuccess(new ListAppointmentsCommand(LocalDate.of(2099, 1, 2), LocalDate.of(2099, 1, 31)),
+            model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_appointmentInRangeEditedAfterListing_stillShown() {
+        setUpFutureAppointments();
+        new ListAppointmentsCommand(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 1, 1)).execute(model);
+        model.addPrescription(FUTURE_A1, new Prescription("Panadol", "1 tablet", "3 days"));
+
+        assertEquals(2, model.getFilteredAppointmentList().size());
+        assertEquals(1, model.getFilteredAppointmentList().stream()
+            .filter(appointment -> appointment.getPrescriptions().size() == 1).count());
+    }
+
+    /**
+     * Replaces the models with ones holding appointments that are not archived on start up.
+     */
+    private void setUpFutureAppointments() {
+        AppointmentBook appointmentBook = new AppointmentBook();
+        for (Appointment appointment : Arrays.asList(FUTURE_A1, FUTURE_A2, FUTURE_B1, FUTURE_B2)) {
+            appointmentBook.addAppointment(appointment);
+        }
+        model = new ModelManager(getTypicalAddressBook(), appointmentBook, new ArchivedAppointmentBook(),
+            new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), model.getAppointmentBook(),
+            new ArchivedAppointmentBook(), new UserPrefs());
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.docit.logic.commands;
+
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.docit.logic.commands.UndoCommandTest.createModel;
+import static seedu.docit.logic.commands.UndoCommandTest.execute;
+import static seedu.docit.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.logic.commands.exceptions.CommandException;
+import seedu.docit.model.Model;
+
+public class RedoCommandTest {
+
+    private final Model model = createModel();
+
+    @Test
+    public void execute_nothingUndone_failure() throws CommandException {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+
+        execute(new ClearCommand(), model);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_patientDeletionUndone_patientDeletedAgain() throws CommandException {
+        Model expectedModel = createModel();
+        execute(new DeletePatientCommand(INDEX_FIRST_PATIENT), expectedModel);
+        execute(new DeletePatientCommand(INDEX_FIRST_PATIENT), model);
+        execute(new UndoCommand(), model);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() throws CommandException {
+        execute(new DeletePatientCommand(INDEX_FIRST_PATIENT), model);
+        execute(new UndoCommand(), model);
+        execute(new SortAppointmentsCommand(), model);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.docit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.docit.commons.core.Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW;
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.docit.logic.commands.SearchPatientCommand.MESSAGE_CLOSEST_MATCH;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
+import static seedu.docit.testutil.TypicalPatients.CARL;
+import static seedu.docit.testutil.TypicalPatients.DANIEL;
+import static seedu.docit.testutil.TypicalPatients.FIONA;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.ArchivedAppointmentBook;
+import seedu.docit.model.Model;
+import seedu.docit.model.ModelManager;
+import seedu.docit.model.UserPrefs;
+import seedu.docit.model.patient.Patient;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchPatientCommand}.
+ */
+public class SearchPatientCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new AppointmentBook(),
+            new ArchivedAppointmentBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new AppointmentBook(),
+            new ArchivedAppointmentBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchPatientCommand searchFirstCommand = new SearchPatientCommand(Collections.singletonList("first"));
+        SearchPatientCommand searchSecondCommand = new SearchPatientCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchPatientCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_noPatientFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, 0);
+        SearchPatientCommand command = new SearchPatientCommand(Collections.singletonList("Zzyzx"));
+        expectedModel.updateFilteredPatientList(patient -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_misspeltName_patientsFound() {
+        assertSearchSuccess(Collections.singletonList("meir"), Arrays.asList(BENSON, DANIEL), BENSON);
+    }
+
+    @Test
+    public void execute_prefixOfName_patientFound() {
+        assertSearchSuccess(Collections.singletonList("KUR"), Collections.singletonList(CARL), CARL);
+    }
+
+    @Test
+    public void execute_exactAndCloseNames_bestMatchFirst() {
+        assertSearchSuccess(Arrays.asList("Carl", "Kurz"), Arrays.asList(CARL, FIONA), CARL);
+    }
+
+    @Test
+    public void execute_closeMatchBeforeBestMatchInAddressBook_patientsShownBestMatchFirst() {
+        // Carl Kurz comes before Fiona Kunz in the address book
+        assertSearchSuccess(Collections.singletonList("Kunz"), Arrays.asList(FIONA, CARL), FIONA);
+    }
+
+    private void assertSearchSuccess(List<String> keywords, List<Patient> expectedPatients, Patient closestPatient) {
+        String expectedMessage = String.format(MESSAGE_PATIENTS_LISTED_OVERVIEW, expectedPatients.size()) + "\n"
+                + String.format(MESSAGE_CLOSEST_MATCH, closestPatient.getName());
+        expectedModel.updateFilteredPatientList(expectedPatients::contains,
+                Comparator.comparing(expectedPatients::indexOf));
+        assertCommandSuccess(new SearchPatientCommand(keywords), model, expectedMessage, expectedModel);
+        assertEquals(expectedPatients, model.getFilteredPatientList());
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.docit.logic.commands;
+
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.commons.core.MetricsCenter;
+import seedu.docit.model.Model;
+import seedu.docit.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void execute_stats_showsReport() {
+        MetricsCenter.recordTime("execute StatsCommandTest", 1000);
+        CommandResult expectedCommandResult = new CommandResult(MetricsCenter.report(), false, false, false);
+        assertCommandSuccess(new StatsCommand(), model, expectedCommandResult, expectedModel);
+    }
+}
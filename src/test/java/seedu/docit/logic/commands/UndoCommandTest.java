@@ -0,0 +1,153 @@
+package seedu.docit.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.docit.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.docit.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
+import static seedu.docit.testutil.TypicalPatients.CARL;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.commons.core.index.Index;
+import seedu.docit.logic.commands.exceptions.CommandException;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.ArchivedAppointmentBook;
+import seedu.docit.model.Model;
+import seedu.docit.model.ModelManager;
+import seedu.docit.model.UserPrefs;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.patient.MedicalHistory;
+import seedu.docit.model.patient.MedicalHistory.MedicalEntry;
+import seedu.docit.model.patient.PatientId;
+
+public class UndoCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 2, 10, 0);
+    private static final Appointment ALICE_UPCOMING = new Appointment(ALICE, NOW.plusDays(1));
+    private static final Appointment BENSON_UPCOMING = new Appointment(BENSON, NOW.plusDays(2));
+    private static final Appointment ALICE_LATER = new Appointment(ALICE, NOW.plusDays(3));
+    private static final Appointment ALICE_ARCHIVED = new Appointment(ALICE, NOW.minusDays(3));
+    private static final Appointment CARL_ARCHIVED = new Appointment(CARL, NOW.minusDays(2));
+
+    private final Model model = createModel();
+    private final Model expectedModel = createModel();
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_patientDeleted_patientAndAppointmentsRestored() throws CommandException {
+        PatientId aliceId = model.getAddressBook().getIdOfPatient(ALICE);
+        execute(new DeletePatientCommand(INDEX_FIRST_PATIENT), model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(aliceId, model.getAddressBook().getIdOfPatient(ALICE));
+        assertEquals(expectedModel.getAppointmentBook().getAppointmentList(),
+                model.getAppointmentBook().getAppointmentList());
+        assertEquals(expectedModel.getArchivedAppointmentList(), model.getArchivedAppointmentList());
+    }
+
+    @Test
+    public void execute_severalCommands_undoneInReverseOrder() throws CommandException {
+        execute(new SortAppointmentsCommand(), model);
+        Model sortedModel = createModel();
+        execute(new SortAppointmentsCommand(), sortedModel);
+        execute(new ClearCommand(), model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, sortedModel);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_medicalEntryAdded_medicalEntryRemoved() throws CommandException {
+        List<MedicalEntry> entries = getMedicalEntriesOfFirstPatient(model);
+        execute(new AddMedicalEntryCommand(INDEX_FIRST_PATIENT, MedicalHistory.generate("asthma", "2 Oct 2020")),
+                model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(entries, getMedicalEntriesOfFirstPatient(model));
+    }
+
+    @Test
+    public void execute_medicalEntryDeleted_medicalEntryRestored() throws CommandException {
+        execute(new AddMedicalEntryCommand(INDEX_FIRST_PATIENT, MedicalHistory.generate("asthma", "2 Oct 2020")),
+                model);
+        List<MedicalEntry> entries = getMedicalEntriesOfFirstPatient(model);
+        execute(new DeleteMedicalEntryCommand(INDEX_FIRST_PATIENT, Index.fromOneBased(1)), model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(entries, getMedicalEntriesOfFirstPatient(model));
+    }
+
+    @Test
+    public void execute_failedCommand_nothingToUndo() {
+        DeletePatientCommand invalidCommand = new DeletePatientCommand(Index.fromOneBased(100));
+        try {
+            execute(invalidCommand, model);
+        } catch (CommandException e) {
+            // The command failed before changing anything.
+        }
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_appointmentArchivedSince_failure() throws CommandException {
+        Appointment expired = new Appointment(BENSON, NOW.minusDays(5));
+        model.addAppointment(expired);
+        model.commitChanges();
+        // Auto-archiving moves the appointment out of the upcoming appointments without recording it.
+        model.archivePastAppointments();
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        AppointmentBook appointmentBook = new AppointmentBook(model.getAppointmentBook());
+        ArchivedAppointmentBook archivedAppointmentBook = new ArchivedAppointmentBook(
+                model.getArchivedAppointmentBook());
+
+        assertCommandFailure(new UndoCommand(), model, "The data has changed since, so the change cannot be undone or "
+                + "redone");
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(appointmentBook, model.getAppointmentBook());
+        assertEquals(archivedAppointmentBook, model.getArchivedAppointmentBook());
+    }
+
+    private static List<MedicalEntry> getMedicalEntriesOfFirstPatient(Model model) {
+        return model.getAddressBook().getPatientOfIndex(INDEX_FIRST_PATIENT).getMedicalHistory().toList();
+    }
+
+    /**
+     * Executes {@code command} on {@code model} as {@code LogicManager} does.
+     */
+    static void execute(Command command, Model model) throws CommandException {
+        try {
+            command.execute(model);
+        } finally {
+            model.commitChanges();
+        }
+    }
+
+    /**
+     * Returns a model at {@link #NOW} with the typical patients, and appointments of Alice both upcoming and archived.
+     */
+    static Model createModel() {
+        AppointmentBook appointmentBook = new AppointmentBook();
+        appointmentBook.addAppointment(ALICE_LATER);
+        appointmentBook.addAppointment(BENSON_UPCOMING);
+        appointmentBook.addAppointment(ALICE_UPCOMING);
+        AppointmentBook archivedAppointmentBook = new AppointmentBook();
+        archivedAppointmentBook.addAppointment(ALICE_ARCHIVED);
+        archivedAppointmentBook.addAppointment(CARL_ARCHIVED);
+        return new ModelManager(getTypicalAddressBook(), appointmentBook, archivedAppointmentBook, new UserPrefs(),
+                Clock.fixed(NOW.atZone(Appointment.CLINIC_ZONE).toInstant(), Appointment.CLINIC_ZONE));
+    }
+}
@@ -69,7 +69,7 @@ public class AddPrescriptionCommandTest {
         AddPrescriptionCommand addPrescriptionCommand =
                 new AddPrescriptionCommand(Index.fromOneBased(1), defaultMedicine, defaultVolume, defaultDuration);
 
-        defaultAppointment.addPrescription(validPrescription);
+        model.addPrescription(defaultAppointment, validPrescription);
 
         assertThrows(CommandException.class, new DuplicatePrescriptionException().getMessage(), () ->
                 addPrescriptionCommand.execute(model));
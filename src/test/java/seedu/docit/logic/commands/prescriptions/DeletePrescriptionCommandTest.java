@@ -42,7 +42,7 @@ public class DeletePrescriptionCommandTest {
 
     @Test
     public void execute_validPrescription_deleteSuccessfully() throws CommandException {
-        defaultAppointment.addPrescription(validPrescription);
+        model.addPrescription(defaultAppointment, validPrescription);
         DeletePrescriptionCommand deletePrescriptionCommand =
                 new DeletePrescriptionCommand(Index.fromOneBased(1), defaultMedicine);
 
@@ -3,6 +3,7 @@ package seedu.docit.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_REGREX_FORMAT;
 import static seedu.docit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalAppointments.A1;
@@ -28,6 +29,9 @@ import seedu.docit.logic.commands.FindPatientCommand;
 import seedu.docit.logic.commands.HelpCommand;
 import seedu.docit.logic.commands.ListAppointmentsCommand;
 import seedu.docit.logic.commands.ListPatientCommand;
+import seedu.docit.logic.commands.RedoCommand;
+import seedu.docit.logic.commands.StatsCommand;
+import seedu.docit.logic.commands.UndoCommand;
 import seedu.docit.logic.parser.exceptions.ParseException;
 import seedu.docit.model.appointment.Appointment;
 import seedu.docit.model.patient.Patient;
@@ -117,7 +121,7 @@ public class AddressBookParserTest {
     public void parseCommand_listAppointments() throws Exception {
         assertTrue(parser.parseCommand(APPT_PREFIX + ListAppointmentsCommand.COMMAND_WORD)
                 instanceof ListAppointmentsCommand);
-        assertTrue(parser.parseCommand(APPT_PREFIX + ListAppointmentsCommand.COMMAND_WORD + " 3")
+        assertTrue(parser.parseCommand(APPT_PREFIX + ListAppointmentsCommand.COMMAND_WORD + " today")
                 instanceof ListAppointmentsCommand);
     }
 
@@ -141,6 +145,21 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(BASIC_CMD_PREFIX + HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(BASIC_CMD_PREFIX + StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(BASIC_CMD_PREFIX + UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(BASIC_CMD_PREFIX + RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     // Erroneous commands
 
     @Test
@@ -153,4 +172,48 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(PT_PREFIX + "unknown"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(PT_PREFIX));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("   "));
+    }
+
+    @Test
+    public void parseCommand_prefixNotFollowedBySingleSpace_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("pt  list"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("pt\tlist"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ptlist"));
+    }
+
+    @Test
+    public void parseCommand_invalidCharacters_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_REGREX_FORMAT, () -> parser.parseCommand("pt list!"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_REGREX_FORMAT, () -> parser.parseCommand("unknown \u00e9"));
+    }
+
+    @Test
+    public void parseCommand_surroundingWhitespace_ignored() throws Exception {
+        assertTrue(parser.parseCommand("  " + PT_PREFIX + ListPatientCommand.COMMAND_WORD + "  ")
+            instanceof ListPatientCommand);
+    }
+
+    @Test
+    public void registerCommand_newCommandFamily_parsed() throws Exception {
+        parser.registerCommand("test", "list", arguments -> new ListPatientCommand());
+        assertTrue(parser.parseCommand("test list") instanceof ListPatientCommand);
+    }
+
+    @Test
+    public void registerCommand_registeredCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand(PT_PREFIX.trim(),
+            ListPatientCommand.COMMAND_WORD, arguments -> new ListPatientCommand()));
+    }
+
+    @Test
+    public void registerCommand_commandWordWithSpace_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("test", "two words",
+            arguments -> new ListPatientCommand()));
+    }
 }
@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixNotAfterSpace_takenAsValue() {
+        // Only a space, and not the start of the string or other whitespace, can come before a prefix
+        String argsString = "p/start\tp/tab -t value p/end";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p/start\tp/tab");
+        assertArgumentPresent(argMultimap, dashT, "value");
+        assertArgumentPresent(argMultimap, pSlash, "end");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,60 @@
+package seedu.docit.logic.parser;
+
+import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.docit.logic.parser.AppointmentCommandParserTestUtil.assertParseFailure;
+import static seedu.docit.logic.parser.AppointmentCommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.logic.commands.ListAppointmentsCommand;
+
+public class ListAppointmentsCommandParserTest {
+    // A Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2021, 11, 3);
+
+    private ListAppointmentsCommandParser parser = new ListAppointmentsCommandParser(
+            Clock.fixed(TODAY.atStartOfDay(ZoneId.of("Singapore")).toInstant(), ZoneId.of("Singapore")));
+
+    @Test
+    public void parse_emptyArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListAppointmentsCommand());
+    }
+
+    @Test
+    public void parse_today_returnsTodayOnly() {
+        assertParseSuccess(parser, " today ", new ListAppointmentsCommand(TODAY, TODAY));
+    }
+
+    @Test
+    public void parse_week_returnsMondayToSunday() {
+        assertParseSuccess(parser, "week",
+                new ListAppointmentsCommand(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 7)));
+    }
+
+    @Test
+    public void parse_validDateRange_returnsRange() {
+        assertParseSuccess(parser, "2021-12-1  2021-12-31",
+                new ListAppointmentsCommand(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31)));
+        assertParseSuccess(parser, "2021-12-1 2021-12-1",
+                new ListAppointmentsCommand(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListAppointmentsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2021-12-1 2021-12-2 2021-12-3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListAppointmentsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2021-12-1 tomorrow",
+                String.format(ParserUtil.MESSAGE_INVALID_DATE, "tomorrow"));
+    }
+
+    @Test
+    public void parse_endBeforeStart_throwsParseException() {
+        assertParseFailure(parser, "2021-12-31 2021-12-1", ListAppointmentsCommandParser.MESSAGE_END_BEFORE_START);
+    }
+}
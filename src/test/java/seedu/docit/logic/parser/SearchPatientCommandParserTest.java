@@ -0,0 +1,33 @@
+package seedu.docit.logic.parser;
+
+import static seedu.docit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.docit.logic.parser.PatientCommandParserTestUtil.assertParseFailure;
+import static seedu.docit.logic.parser.PatientCommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.logic.commands.SearchPatientCommand;
+
+public class SearchPatientCommandParserTest {
+
+    private SearchPatientCommandParser parser = new SearchPatientCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchPatientCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no leading and trailing whitespaces
+        SearchPatientCommand expectedSearchPatientCommand = new SearchPatientCommand(Arrays.asList("Alic", "Bobb"));
+        assertParseSuccess(parser, "Alic Bobb", expectedSearchPatientCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alic \n \t Bobb  \t", expectedSearchPatientCommand);
+    }
+
+}
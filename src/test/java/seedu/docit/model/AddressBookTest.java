@@ -2,23 +2,30 @@ package seedu.docit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BOB;
 import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.docit.commons.core.index.Index;
+import seedu.docit.model.patient.MedicalHistory;
 import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 import seedu.docit.model.patient.exceptions.DuplicatePatientException;
 import seedu.docit.testutil.PatientBuilder;
 
@@ -76,11 +83,43 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPatient(editedAlice));
     }
 
+    @Test
+    public void findPatientIds_afterEdits_matchesCurrentPatients() {
+        Patient alice = new PatientBuilder(ALICE).build();
+        addressBook.addPatient(alice);
+        PatientId aliceId = addressBook.getIdOfPatient(alice);
+        assertEquals(Set.of(aliceId), addressBook.findPatientIds(Collections.singletonList("DIABETES")));
+
+        Patient editedAlice = alice.addMedicalHistory(MedicalHistory.generate("asthma"));
+        addressBook.setPatient(alice, editedAlice);
+        assertEquals(Set.of(aliceId), addressBook.findPatientIds(Collections.singletonList("asthma")));
+
+        addressBook.removePatient(editedAlice);
+        assertEquals(Collections.emptySet(), addressBook.findPatientIds(Arrays.asList("alice", "asthma")));
+    }
+
     @Test
     public void getPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPatientList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_notInSnapshot() {
+        addressBook.addPatient(ALICE);
+        PatientId aliceId = addressBook.getIdOfPatient(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertSame(snapshot, addressBook.snapshot());
+
+        addressBook.removePatient(ALICE);
+        addressBook.addPatient(BOB);
+        assertNotSame(snapshot, addressBook.snapshot());
+        assertEquals(List.of(ALICE), snapshot.getPatientList());
+        assertEquals(aliceId, snapshot.getIdOfPatient(ALICE));
+        assertEquals(ALICE, snapshot.getPatientOfId(aliceId));
+        assertNull(snapshot.getIdOfPatient(BOB));
+        assertEquals(Set.of(aliceId), snapshot.findPatientIds(List.of("alice")));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose patients list can violate interface constraints.
      */
@@ -105,6 +144,26 @@ public class AddressBookTest {
         public Index getIndexOfPatient(Patient patient) {
             return null;
         }
+
+        @Override
+        public Patient getPatientOfId(PatientId id) {
+            return null;
+        }
+
+        @Override
+        public PatientId getIdOfPatient(Patient patient) {
+            return null;
+        }
+
+        @Override
+        public Set<PatientId> findPatientIds(Collection<String> keywords) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public List<PatientId> findClosestPatientIds(Collection<String> keywords, int limit) {
+            return Collections.emptyList();
+        }
     }
 
 }
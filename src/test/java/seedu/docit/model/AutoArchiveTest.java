@@ -1,20 +1,34 @@
 package seedu.docit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static seedu.docit.testutil.TypicalAppointments.getAppointmentBookWithExpiredApmts;
 import static seedu.docit.testutil.TypicalAppointments.getTypicalAppointmentBook;
 import static seedu.docit.testutil.TypicalAppointments.getTypicalArchivedAppointmentBook;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
 import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.docit.model.appointment.Appointment;
+
 public class AutoArchiveTest {
 
+    private static final ZoneId ZONE = Appointment.CLINIC_ZONE;
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 2, 10, 0);
+
     private final Model model = new ModelManager(getTypicalAddressBook(), getAppointmentBookWithExpiredApmts(),
             new AppointmentBook(), new UserPrefs());
 
@@ -27,65 +41,126 @@ public class AutoArchiveTest {
     }
 
     @Test
-    public void initAutoArchive_initOnUpdateHour_autoArchiveImmediately() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss a z");
-        ZonedDateTime sampleTime = ZonedDateTime.parse("2019-03-27 05:00:00 AM +05:30", formatter);
-        ZonedDateTime nextRun = sampleTime.withHour(5).withMinute(0).withSecond(0);
-        ZonedDateTime expectedNextRun = ZonedDateTime.parse("2019-03-27 05:00:00 AM +05:30", formatter);
-
-        assertTrue(sampleTime.compareTo(nextRun) == 0);
-
-        if (sampleTime.compareTo(nextRun) > 0) {
-            nextRun = nextRun.plusDays(1);
-        }
+    public void archivePastAppointments_appointmentsAroundCutoff_archivesOnlyExpiredAppointments() {
+        Appointment expired = new Appointment(ALICE, NOW.minusDays(1));
+        Appointment upcoming = new Appointment(BENSON, NOW.minusDays(1).plusMinutes(1));
+        ModelManager modelManager = modelAt(new TestClock(NOW), expired, upcoming);
+
+        assertEquals(List.of(upcoming), modelManager.getAppointmentBook().getAppointmentList());
+        assertEquals(List.of(expired), modelManager.getArchivedAppointmentList());
+        assertEquals(false, modelManager.isExpired(upcoming));
+    }
 
-        Duration duration = Duration.between(sampleTime, nextRun);
-        long initialDelay = duration.getSeconds();
+    @Test
+    public void start_appointmentExpiresToday_runsWhenAppointmentExpires() {
+        // The appointment was at 23:00 yesterday
+        Appointment appointment = new Appointment(ALICE, NOW.minusHours(11));
+        TestClock clock = new TestClock(NOW);
+        ModelManager modelManager = modelAt(clock, appointment);
+        AutoArchiveScheduler scheduler = new AutoArchiveScheduler(modelManager, clock, Runnable::run);
+
+        scheduler.start();
+        assertEquals(instantOf(NOW.plusHours(13)), scheduler.getNextRunTime());
+        scheduler.stop();
+    }
 
-        assertTrue(initialDelay == 0);
+    @Test
+    public void start_noAppointmentExpiresToday_runsAtStartOfNextDay() {
+        TestClock clock = new TestClock(NOW);
+        ModelManager modelManager = modelAt(clock, new Appointment(ALICE, NOW.plusHours(1)));
+        AutoArchiveScheduler scheduler = new AutoArchiveScheduler(modelManager, clock, Runnable::run);
+
+        scheduler.start();
+        assertEquals(instantOf(NOW.toLocalDate().plusDays(1).atStartOfDay()), scheduler.getNextRunTime());
+        scheduler.stop();
+    }
 
-        assertEquals(nextRun, expectedNextRun);
+    @Test
+    public void start_earlierAppointmentAdded_rescheduled() {
+        TestClock clock = new TestClock(NOW);
+        ModelManager modelManager = modelAt(clock);
+        AutoArchiveScheduler scheduler = new AutoArchiveScheduler(modelManager, clock, Runnable::run);
+        scheduler.start();
+
+        modelManager.addAppointment(new Appointment(ALICE, NOW.minusHours(20)));
+        assertEquals(instantOf(NOW.plusHours(4)), scheduler.getNextRunTime());
+        scheduler.stop();
     }
 
     @Test
-    public void initAutoArchive_initAfterUpdateHour_autoArchiveNextDay() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss a z");
-        ZonedDateTime sampleTime = ZonedDateTime.parse("2019-03-27 05:00:01 AM +05:30", formatter);
-        ZonedDateTime nextRun = sampleTime.withHour(5).withMinute(0).withSecond(0);
-        ZonedDateTime expectedNextRun = ZonedDateTime.parse("2019-03-28 05:00:00 AM +05:30", formatter);
+    public void run_appointmentExpires_archivedThroughModelExecutor() throws InterruptedException {
+        Appointment appointment = new Appointment(ALICE, NOW.minusDays(1).plusNanos(TimeUnit.MILLISECONDS.toNanos(50)));
+        TestClock clock = new TestClock(NOW);
+        ModelManager modelManager = modelAt(clock, appointment);
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        AutoArchiveScheduler scheduler = new AutoArchiveScheduler(modelManager, clock, modelTasks::add);
+        scheduler.start();
+
+        Runnable archiveRun = modelTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(archiveRun);
+        assertEquals(List.of(appointment), modelManager.getAppointmentBook().getAppointmentList());
+
+        clock.advance(Duration.ofSeconds(1));
+        archiveRun.run();
+        assertEquals(List.of(), modelManager.getAppointmentBook().getAppointmentList());
+        assertEquals(List.of(appointment), modelManager.getArchivedAppointmentList());
+        assertEquals(instantOf(NOW.toLocalDate().plusDays(1).atStartOfDay()), scheduler.getNextRunTime());
+        scheduler.stop();
+    }
 
-        assertTrue(sampleTime.compareTo(nextRun) > 0);
+    @Test
+    public void stop_runScheduled_runCancelled() {
+        TestClock clock = new TestClock(NOW);
+        ModelManager modelManager = modelAt(clock);
+        AutoArchiveScheduler scheduler = new AutoArchiveScheduler(modelManager, clock, Runnable::run);
+        scheduler.start();
+
+        scheduler.stop();
+        assertNull(scheduler.getNextRunTime());
+        modelManager.addAppointment(new Appointment(ALICE, NOW.minusHours(20)));
+        assertNull(scheduler.getNextRunTime());
+    }
 
-        if (sampleTime.compareTo(nextRun) > 0) {
-            nextRun = nextRun.plusDays(1);
+    private static ModelManager modelAt(Clock clock, Appointment... appointments) {
+        AppointmentBook appointmentBook = new AppointmentBook();
+        for (Appointment appointment : appointments) {
+            appointmentBook.addAppointment(appointment);
         }
+        return new ModelManager(getTypicalAddressBook(), appointmentBook, new AppointmentBook(), new UserPrefs(),
+                clock);
+    }
 
-        Duration duration = Duration.between(sampleTime, nextRun);
-        long initialDelay = duration.getSeconds();
-
-        assertTrue(initialDelay > 0);
-
-        assertEquals(nextRun, expectedNextRun);
+    private static Instant instantOf(LocalDateTime datetime) {
+        return datetime.atZone(ZONE).toInstant();
     }
 
-    @Test
-    public void initAutoArchive_initBeforeUpdateHour_autoArchiveSameDay() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss a z");
-        ZonedDateTime sampleTime = ZonedDateTime.parse("2019-03-27 04:59:59 AM +05:30", formatter);
-        ZonedDateTime nextRun = sampleTime.withHour(5).withMinute(0).withSecond(0);
-        ZonedDateTime expectedNextRun = ZonedDateTime.parse("2019-03-27 05:00:00 AM +05:30", formatter);
+    /**
+     * A clock in the clinic's zone that only moves when it is advanced.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant;
 
-        assertTrue(sampleTime.compareTo(nextRun) < 0);
+        TestClock(LocalDateTime datetime) {
+            this.instant = instantOf(datetime);
+        }
 
-        if (sampleTime.compareTo(nextRun) > 0) {
-            nextRun = nextRun.plusDays(1);
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
         }
 
-        Duration duration = Duration.between(sampleTime, nextRun);
-        long initialDelay = duration.getSeconds();
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
 
-        assertTrue(initialDelay > 0);
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
 
-        assertEquals(nextRun, expectedNextRun);
+        @Override
+        public Instant instant() {
+            return instant;
+        }
     }
 }
@@ -0,0 +1,114 @@
+package seedu.docit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.model.exceptions.EditConflictException;
+
+public class EditHistoryTest {
+
+    private final List<String> items = new ArrayList<>();
+    private final EditHistory history = new EditHistory(2);
+
+    @Test
+    public void constructor_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(0));
+    }
+
+    @Test
+    public void commit_noEdits_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_severalSteps_appliedInOrder() {
+        add("a");
+        add("b");
+        history.commit();
+        add("c");
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of("a", "b"), items);
+        history.undo();
+        assertEquals(List.of(), items);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(List.of("a", "b"), items);
+        history.redo();
+        assertEquals(List.of("a", "b", "c"), items);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneSteps() {
+        add("a");
+        history.commit();
+        history.undo();
+        add("b");
+        history.commit();
+
+        assertFalse(history.canRedo());
+        history.undo();
+        assertEquals(List.of(), items);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_overLimit_oldestStepDiscarded() {
+        add("a");
+        history.commit();
+        add("b");
+        history.commit();
+        add("c");
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertEquals(List.of("a"), items);
+    }
+
+    @Test
+    public void runUnrecorded_editsNotRecorded() {
+        history.runUnrecorded(() -> add("a"));
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_conflictingEdit_stepRolledBackAndKept() {
+        add("a");
+        add("b");
+        history.commit();
+        items.remove("a");
+
+        assertThrows(EditConflictException.class, history::undo);
+        assertEquals(List.of("b"), items);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    /**
+     * Adds {@code item} to the items, and records it.
+     */
+    private void add(String item) {
+        items.add(item);
+        history.record(UndoableEdit.of(() -> remove(item), () -> items.add(item)));
+    }
+
+    private void remove(String item) {
+        if (!items.remove(item)) {
+            throw new IllegalStateException(item + " is missing");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.docit.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ModelExecutorTest {
+
+    private final ModelExecutor modelExecutor = new ModelExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        modelExecutor.shutdown();
+    }
+
+    @Test
+    public void execute_manyTasks_runInOrderOnModelThread() {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> isOnModelThread = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            int task = i;
+            modelExecutor.execute(() -> {
+                order.add(task);
+                isOnModelThread.add(modelExecutor.isModelThread());
+            });
+        }
+        modelExecutor.shutdown();
+
+        assertEquals(100, order.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+            assertTrue(isOnModelThread.get(i));
+        }
+        assertFalse(modelExecutor.isModelThread());
+    }
+
+    @Test
+    public void execute_taskThrows_laterTasksStillRun() {
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        modelExecutor.execute(() -> {
+            throw new IllegalStateException("test");
+        });
+        modelExecutor.execute(() -> ran.add("after"));
+        modelExecutor.shutdown();
+
+        assertEquals(List.of("after"), ran);
+    }
+
+    @Test
+    public void submit_taskReturns_completesWithResult() {
+        assertEquals("result", modelExecutor.submit(() -> "result").join());
+    }
+
+    @Test
+    public void submit_taskThrows_completesWithException() {
+        Exception exception = new Exception("test");
+        CompletableFuture<Object> result = modelExecutor.submit(() -> {
+            throw exception;
+        });
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertSame(exception, thrown.getCause());
+    }
+
+    @Test
+    public void execute_afterShutdown_throwsRejectedExecutionException() {
+        modelExecutor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> modelExecutor.execute(() -> { }));
+    }
+}
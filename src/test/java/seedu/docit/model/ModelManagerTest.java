@@ -2,19 +2,25 @@ package seedu.docit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 import static seedu.docit.testutil.Assert.assertThrows;
+import static seedu.docit.testutil.TypicalAppointments.A1;
 import static seedu.docit.testutil.TypicalPatients.ALICE;
 import static seedu.docit.testutil.TypicalPatients.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.docit.commons.core.GuiSettings;
+import seedu.docit.model.appointment.Appointment;
 import seedu.docit.model.patient.PatientContainsKeywordsPredicate;
 import seedu.docit.testutil.AddressBookBuilder;
 
@@ -29,6 +35,26 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void ofOwnedBooks_modifiableBooks_keepsThem() {
+        AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).build();
+        AppointmentBook appointmentBook = new AppointmentBook();
+        ArchivedAppointmentBook archivedAppointmentBook = new ArchivedAppointmentBook();
+        modelManager = ModelManager.ofOwnedBooks(addressBook, appointmentBook, archivedAppointmentBook,
+                new UserPrefs());
+        assertSame(addressBook, modelManager.getAddressBook());
+        assertSame(appointmentBook, modelManager.getAppointmentBook());
+        assertSame(archivedAppointmentBook, modelManager.getArchivedAppointmentBook());
+    }
+
+    @Test
+    public void ofOwnedBooks_bookOfOtherType_copiesIt() {
+        AppointmentBook archivedAppointmentBook = new AppointmentBook();
+        modelManager = ModelManager.ofOwnedBooks(new AddressBook(), new AppointmentBook(), archivedAppointmentBook,
+                new UserPrefs());
+        assertNotSame(archivedAppointmentBook, modelManager.getArchivedAppointmentBook());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -93,6 +119,70 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().remove(0));
     }
 
+    @Test
+    public void addAppointment_validAppointment_changesOnlyAppointmentBookVersion() {
+        modelManager.addPatient(ALICE);
+        long addressBookVersion = modelManager.getAddressBookVersion();
+        long appointmentBookVersion = modelManager.getAppointmentBookVersion();
+        long archivedAppointmentBookVersion = modelManager.getArchivedAppointmentBookVersion();
+
+        modelManager.addAppointment(A1);
+        assertEquals(addressBookVersion, modelManager.getAddressBookVersion());
+        assertNotEquals(appointmentBookVersion, modelManager.getAppointmentBookVersion());
+        assertEquals(archivedAppointmentBookVersion, modelManager.getArchivedAppointmentBookVersion());
+    }
+
+    @Test
+    public void deletePatient_existingPatient_changesOnlyAddressBookVersion() {
+        modelManager.addPatient(ALICE);
+        long addressBookVersion = modelManager.getAddressBookVersion();
+        long appointmentBookVersion = modelManager.getAppointmentBookVersion();
+        long archivedAppointmentBookVersion = modelManager.getArchivedAppointmentBookVersion();
+
+        modelManager.deletePatient(ALICE);
+        assertNotEquals(addressBookVersion, modelManager.getAddressBookVersion());
+        assertEquals(appointmentBookVersion, modelManager.getAppointmentBookVersion());
+        assertEquals(archivedAppointmentBookVersion, modelManager.getArchivedAppointmentBookVersion());
+    }
+
+    @Test
+    public void getFilteredAppointmentList_alwaysSortedMode_keepsAppointmentsSorted() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAppointmentsAlwaysSorted(true);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        Appointment late = new Appointment(ALICE, LocalDateTime.of(2099, 3, 1, 9, 0));
+        Appointment early = new Appointment(BENSON, LocalDateTime.of(2099, 1, 1, 9, 0));
+        Appointment middle = new Appointment(ALICE, LocalDateTime.of(2099, 2, 1, 9, 0));
+
+        modelManager.addAppointment(late);
+        modelManager.addAppointment(early);
+        modelManager.addAppointment(middle);
+        assertEquals(Arrays.asList(early, middle, late), modelManager.getFilteredAppointmentList());
+
+        Appointment latest = new Appointment(BENSON, LocalDateTime.of(2099, 4, 1, 9, 0));
+        modelManager.setAppointment(early, latest);
+        assertEquals(Arrays.asList(middle, late, latest), modelManager.getFilteredAppointmentList());
+
+        // the appointment book keeps the order appointments were added in
+        assertEquals(Arrays.asList(late, latest, middle), modelManager.getAppointmentBook().getAppointmentList());
+    }
+
+    @Test
+    public void sortAppointments_alwaysSortedMode_leavesAppointmentBookUnchanged() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAppointmentsAlwaysSorted(true);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPatient(ALICE);
+        modelManager.addAppointment(new Appointment(ALICE, LocalDateTime.of(2099, 3, 1, 9, 0)));
+        modelManager.addAppointment(new Appointment(ALICE, LocalDateTime.of(2099, 1, 1, 9, 0)));
+        long appointmentBookVersion = modelManager.getAppointmentBookVersion();
+
+        modelManager.sortAppointments();
+        assertEquals(appointmentBookVersion, modelManager.getAppointmentBookVersion());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -2,6 +2,7 @@ package seedu.docit.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.testutil.Assert.assertThrows;
 
@@ -34,6 +35,24 @@ public class PrescriptionTest {
         assertTrue(prescription.equals(prescriptionCopy));
     }
 
+    @Test
+    public void hashCode_equalPrescriptions_sameHashCode() {
+        Prescription prescription = new Prescription(defaultMedicine, defaultVolume, defaultDuration);
+        Prescription prescriptionCopy = new Prescription(defaultMedicine.toUpperCase(), defaultVolume, defaultDuration);
+        assertEquals(prescription.hashCode(), prescriptionCopy.hashCode());
+    }
+
+    @Test
+    public void constructor_repeatedValues_shareInstances() {
+        Prescription prescription = new Prescription(new String(defaultMedicine), new String(defaultVolume),
+                new String(defaultDuration));
+        Prescription prescriptionCopy = new Prescription(new String(defaultMedicine), new String(defaultVolume),
+                new String(defaultDuration));
+        assertSame(prescription.getMedicine(), prescriptionCopy.getMedicine());
+        assertSame(prescription.getVolume(), prescriptionCopy.getVolume());
+        assertSame(prescription.getDuration(), prescriptionCopy.getDuration());
+    }
+
     @Test
     public void equals_null_failure() {
         Prescription prescription = new Prescription(defaultMedicine, defaultVolume, defaultDuration);
@@ -1,7 +1,9 @@
 package seedu.docit.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalAppointments.A1;
 import static seedu.docit.testutil.TypicalAppointments.A2;
 import static seedu.docit.testutil.TypicalAppointments.B1;
@@ -9,8 +11,18 @@ import static seedu.docit.testutil.TypicalAppointments.B2;
 import static seedu.docit.testutil.TypicalPatients.BENSON;
 import static seedu.docit.testutil.TypicalPrescriptions.INSULIN_JAB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.docit.model.prescription.Prescription;
+import seedu.docit.model.prescription.exceptions.DuplicatePrescriptionException;
+import seedu.docit.model.prescription.exceptions.MedicineNotFoundException;
 import seedu.docit.testutil.AppointmentBuilder;
 
 public class AppointmentTest {
@@ -65,4 +77,77 @@ public class AppointmentTest {
         editedA1 = new AppointmentBuilder(A1).withPrescription(INSULIN_JAB).build();
         assertFalse(A1.equals(editedA1));
     }
+
+    @Test
+    public void constructor_duplicateMedicine_throwsDuplicatePrescriptionException() {
+        Prescription otherInsulinJab = new Prescription("Insulin Jab", "2 jabs", "daily");
+        assertThrows(DuplicatePrescriptionException.class, () -> new Appointment(A1.getPatient(), A1.getDatetime(),
+                Arrays.asList(INSULIN_JAB, otherInsulinJab)));
+    }
+
+    @Test
+    public void withPrescription() {
+        Appointment withInsulinJab = A1.withPrescription(INSULIN_JAB);
+        assertTrue(withInsulinJab.containsPrescription(new Prescription("Insulin Jab", "2 jabs", "daily")));
+        assertEquals(Set.of(INSULIN_JAB), withInsulinJab.getPrescriptions());
+
+        // original appointment is unchanged
+        assertFalse(A1.containsPrescription(INSULIN_JAB));
+        assertTrue(A1.getPrescriptions().isEmpty());
+
+        // same medicine -> throws
+        assertThrows(DuplicatePrescriptionException.class, () -> withInsulinJab.withPrescription(INSULIN_JAB));
+    }
+
+    @Test
+    public void withoutPrescription() {
+        Appointment withInsulinJab = A1.withPrescription(INSULIN_JAB);
+        assertEquals(A1, withInsulinJab.withoutPrescription("INSULIN JAB"));
+        assertTrue(withInsulinJab.containsPrescription(INSULIN_JAB));
+
+        assertThrows(MedicineNotFoundException.class, () -> A1.withoutPrescription("insulin jab"));
+    }
+
+    @Test
+    public void withEditedPrescription() {
+        Prescription editedInsulinJab = new Prescription("insulin jab", "2 jabs", "daily");
+        Appointment withInsulinJab = A1.withPrescription(INSULIN_JAB);
+        assertEquals(Set.of(editedInsulinJab), withInsulinJab.withEditedPrescription(editedInsulinJab)
+                .getPrescriptions());
+        assertEquals(Set.of(INSULIN_JAB), withInsulinJab.getPrescriptions());
+
+        assertThrows(MedicineNotFoundException.class, () -> A1.withEditedPrescription(editedInsulinJab));
+    }
+
+    @Test
+    public void getPrescriptions_modify_throwsUnsupportedOperationException() {
+        Appointment withInsulinJab = A1.withPrescription(INSULIN_JAB);
+        assertThrows(UnsupportedOperationException.class, () -> withInsulinJab.getPrescriptions().clear());
+        assertThrows(UnsupportedOperationException.class, () -> withInsulinJab.getPrescriptions().add(INSULIN_JAB));
+    }
+
+    @Test
+    public void orderOn() {
+        // A2 is on 2 Feb 2022, after A1, B1 and B2
+        Comparator<Appointment> order = Appointment.orderOn(LocalDate.of(2022, 2, 2));
+        List<Appointment> appointments = new ArrayList<>(Arrays.asList(B2, A1, B1, A2));
+        appointments.sort(order);
+
+        // appointments today first, then by datetime, then by patient
+        assertEquals(Arrays.asList(A2, A1, B1, B2), appointments);
+
+        // no appointments today -> by datetime, then by patient
+        appointments.sort(Appointment.orderOn(LocalDate.of(2022, 3, 1)));
+        assertEquals(Arrays.asList(A1, B1, B2, A2), appointments);
+
+        // same appointment -> equal
+        assertEquals(0, order.compare(A1, new AppointmentBuilder(A1).build()));
+    }
+
+    @Test
+    public void compareTo_noAppointmentsToday_ordersByDatetimeThenPatient() {
+        assertTrue(A1.compareTo(B1) < 0);
+        assertTrue(B1.compareTo(B2) < 0);
+        assertTrue(A2.compareTo(B2) > 0);
+    }
 }
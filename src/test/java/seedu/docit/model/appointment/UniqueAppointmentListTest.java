@@ -2,15 +2,25 @@ package seedu.docit.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalAppointments.A1;
+import static seedu.docit.testutil.TypicalAppointments.A2;
 import static seedu.docit.testutil.TypicalAppointments.B1;
+import static seedu.docit.testutil.TypicalAppointments.B2;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
+import static seedu.docit.testutil.TypicalPatients.CARL;
 import static seedu.docit.testutil.TypicalPrescriptions.INSULIN_JAB;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +30,9 @@ import seedu.docit.testutil.AppointmentBuilder;
 
 public class UniqueAppointmentListTest {
 
+    private static final int LARGE_LIST_SIZE = 100_000;
+    private static final Duration LARGE_LIST_TIME_BUDGET = Duration.ofSeconds(2);
+
     private final UniqueAppointmentList uniqueAppointmentList = new UniqueAppointmentList();
 
     @Test
@@ -161,6 +174,109 @@ public class UniqueAppointmentListTest {
             -> uniqueAppointmentList.setAppointments(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void getAppointmentsOfPatient_patientWithAppointments_returnsOnlyTheirAppointments() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A1, B1, A2, B2));
+        assertEquals(Arrays.asList(A1, A2), uniqueAppointmentList.getAppointmentsOfPatient(ALICE));
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsOfPatient(CARL));
+    }
+
+    @Test
+    public void getAppointmentsOfPatient_afterSetAppointment_reflectsEditedAppointment() {
+        uniqueAppointmentList.add(A1);
+        uniqueAppointmentList.add(B1);
+        Appointment editedA1 = new AppointmentBuilder(A1).withPatient(CARL).build();
+        uniqueAppointmentList.setAppointment(A1, editedA1);
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsOfPatient(ALICE));
+        assertEquals(Collections.singletonList(editedA1), uniqueAppointmentList.getAppointmentsOfPatient(CARL));
+    }
+
+    @Test
+    public void removeAppointmentsOfPatient_patientWithAppointments_removesOnlyTheirAppointments() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A1, B1, A2, B2));
+        uniqueAppointmentList.removeAppointmentsOfPatient(ALICE);
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.setAppointments(Arrays.asList(B1, B2));
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertFalse(uniqueAppointmentList.contains(A1));
+
+        // positions of the remaining appointments are still tracked
+        uniqueAppointmentList.remove(B2);
+        assertEquals(Collections.singletonList(B1), uniqueAppointmentList.getAppointmentsOfPatient(BENSON));
+    }
+
+    @Test
+    public void removeAll_appointmentDoesNotExist_throwsAppointmentNotFoundException() {
+        uniqueAppointmentList.add(A1);
+        assertThrows(AppointmentNotFoundException.class, () -> uniqueAppointmentList.removeAll(Arrays.asList(A1, B1)));
+    }
+
+    @Test
+    public void removeAll_existingAppointments_removesThemAndKeepsEarliestDatetime() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A1, B1, A2, B2));
+        uniqueAppointmentList.removeAll(Arrays.asList(B1, A1));
+        assertEquals(Arrays.asList(A2, B2), uniqueAppointmentList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(B2), uniqueAppointmentList.getAppointmentsOfPatient(BENSON));
+        assertEquals(Optional.of(Collections.min(Arrays.asList(A2.getDatetime(), B2.getDatetime()))),
+            uniqueAppointmentList.getEarliestDatetime());
+    }
+
+    @Test
+    public void getEarliestDatetime_emptyList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniqueAppointmentList.getEarliestDatetime());
+    }
+
+    @Test
+    public void setAppointments_largeListOfUniqueAppointments_validatesWithinTimeBudget() {
+        List<Appointment> appointments = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 9, 0);
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            appointments.add(new AppointmentBuilder().withDatetime(start.plusMinutes(i)).build());
+        }
+        assertTimeout(LARGE_LIST_TIME_BUDGET, () -> uniqueAppointmentList.setAppointments(appointments));
+        assertEquals(LARGE_LIST_SIZE, uniqueAppointmentList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setAppointments_largeListWithDuplicateAtEnd_throwsDuplicateAppointmentException() {
+        List<Appointment> appointments = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 9, 0);
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            appointments.add(new AppointmentBuilder().withDatetime(start.plusMinutes(i)).build());
+        }
+        appointments.add(new AppointmentBuilder().withDatetime(start).build());
+        assertTimeout(LARGE_LIST_TIME_BUDGET, () -> assertThrows(DuplicateAppointmentException.class, ()
+            -> uniqueAppointmentList.setAppointments(appointments)));
+    }
+
+    @Test
+    public void getAppointmentsBetween_appointmentsInRange_returnsThemInTimeOrder() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A2, B2, A1, B1));
+        assertEquals(Arrays.asList(A1, B1, B2), uniqueAppointmentList.getAppointmentsBetween(
+            LocalDateTime.of(2022, 1, 1, 0, 0), LocalDateTime.of(2022, 2, 2, 0, 0)));
+    }
+
+    @Test
+    public void getAppointmentsBetween_appointmentAtEnd_excludesIt() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A1, A2));
+        assertEquals(Collections.singletonList(A1), uniqueAppointmentList.getAppointmentsBetween(
+            A1.getDatetime(), A2.getDatetime()));
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsBetween(
+            A2.getDatetime(), A1.getDatetime()));
+    }
+
+    @Test
+    public void getAppointmentsBetween_afterEditAndRemove_reflectsChanges() {
+        uniqueAppointmentList.setAppointments(Arrays.asList(A1, B1));
+        Appointment movedA1 = new AppointmentBuilder(A1).withDatetime(LocalDateTime.of(2023, 1, 1, 9, 0)).build();
+        uniqueAppointmentList.setAppointment(A1, movedA1);
+        uniqueAppointmentList.remove(B1);
+        assertEquals(Collections.emptyList(), uniqueAppointmentList.getAppointmentsBetween(
+            LocalDateTime.of(2022, 1, 1, 0, 0), LocalDateTime.of(2022, 1, 2, 0, 0)));
+        assertEquals(Collections.singletonList(movedA1), uniqueAppointmentList.getAppointmentsBetween(
+            LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 2, 0, 0)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
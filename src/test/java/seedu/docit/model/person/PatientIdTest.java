@@ -0,0 +1,44 @@
+package seedu.docit.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.docit.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PatientIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PatientId(null));
+    }
+
+    @Test
+    public void constructor_invalidPatientId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PatientId(-1));
+        assertThrows(IllegalArgumentException.class, () -> new PatientId("-1"));
+    }
+
+    @Test
+    public void constructor_validString_parsesId() {
+        assertEquals(new PatientId(42), new PatientId("42"));
+        assertEquals("42", new PatientId(42).toString());
+    }
+
+    @Test
+    public void isValidPatientId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> PatientId.isValidPatientId(null));
+
+        // invalid ids
+        assertFalse(PatientId.isValidPatientId("")); // empty string
+        assertFalse(PatientId.isValidPatientId("-1")); // negative
+        assertFalse(PatientId.isValidPatientId("1a")); // non-numeric
+        assertFalse(PatientId.isValidPatientId("1234567890123456789")); // too large
+
+        // valid ids
+        assertTrue(PatientId.isValidPatientId("0"));
+        assertTrue(PatientId.isValidPatientId("123456789012345678"));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.docit.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.testutil.PatientBuilder;
+
+public class PatientSearchIndexTest {
+
+    private static final int LARGE_INDEX_SIZE = 100_000;
+    private static final int LARGE_INDEX_QUERIES = 100;
+    private static final Duration LARGE_INDEX_TIME_BUDGET = Duration.ofSeconds(1);
+
+    private static final PatientId ALICE_ID = new PatientId(0);
+    private static final PatientId BENSON_ID = new PatientId(1);
+
+    private final PatientSearchIndex searchIndex = new PatientSearchIndex();
+
+    @Test
+    public void findAny_wordsOfNameAndMedicalHistory_returnsMatchingIds() {
+        searchIndex.add(ALICE_ID, ALICE);
+        searchIndex.add(BENSON_ID, BENSON);
+
+        assertEquals(Set.of(ALICE_ID), searchIndex.findAny(Collections.singletonList("pAULINE")));
+        assertEquals(Set.of(ALICE_ID), searchIndex.findAny(Collections.singletonList("diabetes")));
+        assertEquals(Set.of(ALICE_ID, BENSON_ID), searchIndex.findAny(Arrays.asList("alice", "COLD")));
+    }
+
+    @Test
+    public void findAny_partialOrBlankWords_returnsNoIds() {
+        searchIndex.add(ALICE_ID, ALICE);
+
+        assertEquals(Collections.emptySet(), searchIndex.findAny(Arrays.asList("Ali", "diabete")));
+        assertEquals(Collections.emptySet(), searchIndex.findAny(Arrays.asList("", " ")));
+    }
+
+    @Test
+    public void add_sameId_replacesIndexedWords() {
+        searchIndex.add(ALICE_ID, ALICE);
+        searchIndex.add(ALICE_ID, new PatientBuilder(ALICE).withName("Alice Tan").withMedicalHistory("asthma").build());
+
+        assertEquals(Collections.emptySet(), searchIndex.findAny(Arrays.asList("Pauline", "diabetes")));
+        assertEquals(Set.of(ALICE_ID), searchIndex.findAny(Arrays.asList("tan", "asthma")));
+    }
+
+    @Test
+    public void remove_indexedPatient_noLongerFound() {
+        searchIndex.add(ALICE_ID, ALICE);
+        searchIndex.add(BENSON_ID, BENSON);
+        searchIndex.remove(ALICE_ID);
+
+        assertEquals(Set.of(BENSON_ID), searchIndex.findAny(Arrays.asList("Alice", "Benson")));
+    }
+
+    @Test
+    public void findClosest_prefixesAndMisspellings_rankedBestFirst() {
+        searchIndex.add(ALICE_ID, ALICE);
+        searchIndex.add(BENSON_ID, BENSON);
+        PatientId alison = new PatientId(2);
+        searchIndex.add(alison, new PatientBuilder().withName("Alison Paulsen").build());
+
+        // exact match, then prefix match
+        assertEquals(Arrays.asList(ALICE_ID, alison), searchIndex.findClosest(Arrays.asList("alice", "paul"), 10));
+        // one edit away for short keywords, two edits for longer ones
+        assertEquals(Collections.singletonList(ALICE_ID), searchIndex.findClosest(Arrays.asList("alce"), 10));
+        assertEquals(Collections.singletonList(BENSON_ID),
+            searchIndex.findClosest(Arrays.asList("bensn", "maier"), 10));
+        assertEquals(Collections.singletonList(ALICE_ID), searchIndex.findClosest(Arrays.asList("pualine"), 10));
+        // medical history is not searched
+        assertEquals(Collections.emptyList(), searchIndex.findClosest(Arrays.asList("diabetes"), 10));
+    }
+
+    @Test
+    public void findClosest_moreMatchesThanLimit_returnsLowestIdsOfBestScore() {
+        for (int i = 0; i < 5; i++) {
+            searchIndex.add(new PatientId(i), new PatientBuilder().withName("Meier " + toAlphabeticName(i)).build());
+        }
+
+        assertEquals(Arrays.asList(new PatientId(0), new PatientId(1)),
+            searchIndex.findClosest(Collections.singletonList("meier"), 2));
+    }
+
+    @Test
+    public void findClosest_removedPatient_notFound() {
+        searchIndex.add(ALICE_ID, ALICE);
+        searchIndex.remove(ALICE_ID);
+
+        assertEquals(Collections.emptyList(), searchIndex.findClosest(Arrays.asList("alice", "alic", "alise"), 10));
+    }
+
+    @Test
+    public void findClosest_largeIndex_answersWithinTimeBudget() {
+        for (int i = 0; i < LARGE_INDEX_SIZE; i++) {
+            searchIndex.add(new PatientId(i), new PatientBuilder().withName("Patient " + toAlphabeticName(i)).build());
+        }
+        PatientId target = new PatientId(LARGE_INDEX_SIZE);
+        searchIndex.add(target, new PatientBuilder().withName("Zebulon Patient").build());
+
+        assertTimeout(LARGE_INDEX_TIME_BUDGET, () -> {
+            for (int i = 0; i < LARGE_INDEX_QUERIES; i++) {
+                assertEquals(target, searchIndex.findClosest(Collections.singletonList("zebulun"), 5).get(0));
+            }
+        });
+    }
+
+    /**
+     * Returns a distinct name of letters for each non-negative {@code n}.
+     */
+    private static String toAlphabeticName(int n) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return name.toString();
+    }
+}
@@ -2,24 +2,35 @@ package seedu.docit.model.patient;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.docit.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.docit.testutil.Assert.assertThrows;
 import static seedu.docit.testutil.TypicalPatients.ALICE;
 import static seedu.docit.testutil.TypicalPatients.BOB;
+import static seedu.docit.testutil.TypicalPatients.CARL;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.docit.commons.core.index.Index;
 import seedu.docit.model.patient.exceptions.DuplicatePatientException;
+import seedu.docit.model.patient.exceptions.DuplicatePatientIdException;
 import seedu.docit.model.patient.exceptions.PatientNotFoundException;
 import seedu.docit.testutil.PatientBuilder;
 
 public class UniquePatientListTest {
 
+    private static final int LARGE_LIST_SIZE = 100_000;
+    private static final Duration LARGE_LIST_TIME_BUDGET = Duration.ofSeconds(2);
+
     private final UniquePatientList uniquePatientList = new UniquePatientList();
 
     @Test
@@ -106,6 +117,16 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatient(ALICE, BOB));
     }
 
+    @Test
+    public void setPatient_editedPatientHasDifferentIdentity_updatesIdentityIndex() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertFalse(uniquePatientList.contains(ALICE));
+        assertTrue(uniquePatientList.contains(BOB));
+        uniquePatientList.add(ALICE);
+        assertEquals(Index.fromZeroBased(1), uniquePatientList.indexOf(ALICE));
+    }
+
     @Test
     public void remove_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.remove(null));
@@ -124,6 +145,24 @@ public class UniquePatientListTest {
         assertEquals(expectedUniquePatientList, uniquePatientList);
     }
 
+    @Test
+    public void remove_patientWithSameIdentityButDifferentFields_throwsPatientNotFoundException() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PatientNotFoundException.class, () -> uniquePatientList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_existingPatient_shiftsIndexOfLaterPatients() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BOB);
+        uniquePatientList.add(CARL);
+        uniquePatientList.remove(ALICE);
+        assertEquals(Index.fromZeroBased(0), uniquePatientList.indexOf(BOB));
+        assertEquals(Index.fromZeroBased(1), uniquePatientList.indexOf(CARL));
+        assertFalse(uniquePatientList.contains(ALICE));
+    }
+
     @Test
     public void setPatients_nullUniquePatientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatients((UniquePatientList) null));
@@ -159,9 +198,101 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(listWithDuplicatePatients));
     }
 
+    @Test
+    public void setPatients_largeListOfUniquePatients_validatesWithinTimeBudget() {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            patients.add(new PatientBuilder().withName(toAlphabeticName(i)).build());
+        }
+        assertTimeout(LARGE_LIST_TIME_BUDGET, () -> uniquePatientList.setPatients(patients));
+        assertEquals(LARGE_LIST_SIZE, uniquePatientList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setPatients_largeListWithDuplicateAtEnd_throwsDuplicatePatientException() {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            patients.add(new PatientBuilder().withName(toAlphabeticName(i)).build());
+        }
+        patients.add(patients.get(0));
+        assertTimeout(LARGE_LIST_TIME_BUDGET, () ->
+            assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(patients)));
+    }
+
+    @Test
+    public void setPatient_editedPatient_keepsId() {
+        uniquePatientList.add(ALICE);
+        PatientId id = uniquePatientList.idOf(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertEquals(id, uniquePatientList.idOf(BOB));
+        assertEquals(BOB, uniquePatientList.get(id));
+    }
+
+    @Test
+    public void remove_existingPatient_idNotGivenOut() {
+        uniquePatientList.add(ALICE);
+        PatientId id = uniquePatientList.idOf(ALICE);
+        uniquePatientList.remove(ALICE);
+        assertNull(uniquePatientList.get(id));
+
+        uniquePatientList.add(BOB);
+        assertNotEquals(id, uniquePatientList.idOf(BOB));
+    }
+
+    @Test
+    public void add_duplicateId_throwsDuplicatePatientIdException() {
+        uniquePatientList.add(ALICE, new PatientId(3));
+        assertThrows(DuplicatePatientIdException.class, () -> uniquePatientList.add(BOB, new PatientId(3)));
+    }
+
+    @Test
+    public void setPatients_uniquePatientList_keepsIds() {
+        uniquePatientList.add(ALICE, new PatientId(5));
+        UniquePatientList copy = new UniquePatientList();
+        copy.setPatients(uniquePatientList);
+        assertEquals(new PatientId(5), copy.idOf(ALICE));
+
+        copy.add(BOB);
+        assertEquals(new PatientId(6), copy.idOf(BOB));
+    }
+
+    @Test
+    public void setPatients_listWithoutIds_givesNewIdsAfterKeptIds() {
+        uniquePatientList.setPatients(Arrays.asList(ALICE, BOB),
+            patient -> patient.equals(BOB) ? new PatientId(7) : null);
+        assertEquals(new PatientId(8), uniquePatientList.idOf(ALICE));
+        assertEquals(new PatientId(7), uniquePatientList.idOf(BOB));
+    }
+
+    @Test
+    public void setPatients_afterClear_doesNotReuseIds() {
+        uniquePatientList.add(ALICE, new PatientId(4));
+        uniquePatientList.setPatients(Collections.emptyList());
+        uniquePatientList.setPatients(Arrays.asList(BOB));
+        assertEquals(new PatientId(5), uniquePatientList.idOf(BOB));
+    }
+
+    @Test
+    public void setPatients_listWithDuplicateIds_throwsDuplicatePatientIdException() {
+        assertThrows(DuplicatePatientIdException.class, () -> uniquePatientList.setPatients(
+            Arrays.asList(ALICE, BOB), patient -> new PatientId(1)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePatientList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Returns a distinct valid patient name for each non-negative {@code n}.
+     */
+    private static String toAlphabeticName(int n) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return "Patient " + name;
+    }
 }
@@ -0,0 +1,130 @@
+package seedu.docit.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.docit.testutil.Assert.assertThrows;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.HOON;
+import static seedu.docit.testutil.TypicalPatients.IDA;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.docit.commons.core.StorageFormat;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.patient.MedicalHistory;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.testutil.PatientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            new JournaledAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+            .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook snapshot = new AddressBook(original);
+
+        Patient editedAlice = new PatientBuilder(ALICE).withPhone("99999999").build();
+        original.setPatient(ALICE, editedAlice);
+        original.addPatient(HOON);
+        original.addPatient(IDA);
+        original.removePatient(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is left untouched and the changes are replayed from the journal
+        assertEquals(snapshot, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_medicalEntryAdded_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Patient alice = new PatientBuilder(ALICE).withMedicalHistory("diabetes", "1 Oct 2020").build();
+        AddressBook original = new AddressBook();
+        original.addPatient(alice);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Patient editedAlice = alice.addMedicalHistory(MedicalHistory.generate("asthma", "2 Oct 2020"));
+        original.setPatient(alice, editedAlice);
+        storage.saveAddressBook(original);
+
+        Patient savedAlice = new JournaledAddressBookStorage(filePath).readAddressBook().get().getPatientList().get(0);
+        assertEquals(editedAlice.getMedicalHistory(), savedAlice.getMedicalHistory());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, StorageFormat.PRETTY, 1);
+        storage.saveAddressBook(original);
+
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        original.addPatient(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithoutJournal_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPatient(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        Files.write(testFolder.resolve("ab.json.journal"), "{\"kind\":\"ADD\",\"pat".getBytes(UTF_8),
+            StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(restarted.readAddressBook().get()));
+
+        // the next save writes a new snapshot rather than appending after the incomplete entry
+        original.addPatient(IDA);
+        restarted.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
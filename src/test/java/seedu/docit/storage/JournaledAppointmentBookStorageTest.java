@@ -0,0 +1,91 @@
+package seedu.docit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.docit.testutil.TypicalAppointments.A1;
+import static seedu.docit.testutil.TypicalAppointments.A2;
+import static seedu.docit.testutil.TypicalAppointments.C1;
+import static seedu.docit.testutil.TypicalAppointments.C2;
+import static seedu.docit.testutil.TypicalAppointments.getTypicalAppointmentBook;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.DANIEL;
+import static seedu.docit.testutil.TypicalPatients.GEORGE;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.AppointmentBook;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.testutil.TypicalAppointments;
+
+public class JournaledAppointmentBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAppointmentBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("apb.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AppointmentBook original = getTypicalAppointmentBook();
+        JournaledAppointmentBookStorage storage = new JournaledAppointmentBookStorage(filePath);
+        storage.saveAppointmentBook(original, addressBook);
+        AppointmentBook snapshot = new AppointmentBook(original);
+
+        original.addAppointment(C1);
+        original.addAppointment(C2);
+        original.removeAppointment(A1);
+        original.setAppointment(A2, new Appointment(A2.getPatient(), A2.getDatetime().plusHours(1),
+            Collections.emptySet()));
+        storage.saveAppointmentBook(original, addressBook);
+
+        // the snapshot is left untouched and the changes are replayed from the journal
+        assertEquals(snapshot, new AppointmentBook(
+            new JsonAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+        assertEquals(original, new AppointmentBook(
+            new JournaledAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+    }
+
+    @Test
+    public void saveAppointmentBook_patientDeleted_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("apb.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AppointmentBook original = getTypicalAppointmentBook();
+        JournaledAppointmentBookStorage storage = new JournaledAppointmentBookStorage(filePath);
+        storage.saveAppointmentBook(original, addressBook);
+
+        // appointments already on disk refer to the deleted patient's ID, which can no longer be resolved
+        addressBook.removePatient(ALICE);
+        original.removePatient(ALICE);
+        storage.saveAppointmentBook(original, addressBook);
+
+        assertEquals(original, new AppointmentBook(
+            new JsonAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+        assertEquals(original, new AppointmentBook(
+            new JournaledAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+    }
+
+    @Test
+    public void saveAppointmentBook_unreferencedPatientDeleted_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("apb.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AppointmentBook original = getTypicalAppointmentBook();
+        JournaledAppointmentBookStorage storage = new JournaledAppointmentBookStorage(filePath);
+        storage.saveAppointmentBook(original, addressBook);
+        AppointmentBook snapshot = new AppointmentBook(original);
+
+        // later patients keep their IDs, so appointments on disk still refer to the right patients
+        addressBook.removePatient(DANIEL);
+        original.addAppointment(new Appointment(GEORGE, A1.getDatetime(), Collections.emptySet()));
+        storage.saveAppointmentBook(original, addressBook);
+
+        assertEquals(snapshot, new AppointmentBook(
+            new JsonAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+        assertEquals(original, new AppointmentBook(
+            new JournaledAppointmentBookStorage(filePath).readAppointmentBook(addressBook).get()));
+    }
+}
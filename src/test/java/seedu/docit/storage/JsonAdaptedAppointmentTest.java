@@ -13,14 +13,14 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.docit.commons.core.index.Index;
 import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.model.patient.PatientId;
 
 public class JsonAdaptedAppointmentTest {
-    private static final String INVALID_PATIENT_INDEX = "a1";
+    private static final String INVALID_PATIENT_ID = "a1";
     private static final String INVALID_DATETIME = "22012sa";
 
-    private static final String VALID_PATIENT_INDEX = "1";
+    private static final String VALID_PATIENT_ID = "1";
     private static final String VALID_DATETIME = "2022-2-1 1339";
     private static final List<JsonAdaptedPrescription> VALID_PRESCRIPTIONS =
         A1.getPrescriptions()
@@ -36,19 +36,19 @@ public class JsonAdaptedAppointmentTest {
     }
 
     @Test
-    public void toModelType_invalidPatientIndex_throwsIllegalValueException() {
+    public void toModelType_invalidPatientId_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment =
-                new JsonAdaptedAppointment(INVALID_PATIENT_INDEX, VALID_DATETIME, VALID_PRESCRIPTIONS);
-        String expectedMessage = "Patient index must be an integer.";
+                new JsonAdaptedAppointment(INVALID_PATIENT_ID, VALID_DATETIME, VALID_PRESCRIPTIONS);
+        String expectedMessage = PatientId.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class,
             expectedMessage, () -> appointment.toModelType(getTypicalAddressBook()));
     }
 
     @Test
-    public void toModelType_nullPatientIndex_throwsIllegalValueException() {
+    public void toModelType_nullPatientId_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(null,
             VALID_DATETIME, VALID_PRESCRIPTIONS);
-        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Index.class.getSimpleName());
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, PatientId.class.getSimpleName());
         assertThrows(IllegalValueException.class,
             expectedMessage, () -> appointment.toModelType(getTypicalAddressBook()));
     }
@@ -56,7 +56,7 @@ public class JsonAdaptedAppointmentTest {
     @Test
     public void toModelType_invalidDatetime_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment =
-                new JsonAdaptedAppointment(VALID_PATIENT_INDEX, INVALID_DATETIME, VALID_PRESCRIPTIONS);
+                new JsonAdaptedAppointment(VALID_PATIENT_ID, INVALID_DATETIME, VALID_PRESCRIPTIONS);
         String expectedMessage = LocalDateTime.class.getSimpleName() + " is of incorrect format.";
         assertThrows(IllegalValueException.class,
             expectedMessage, () -> appointment.toModelType(getTypicalAddressBook()));
@@ -64,7 +64,7 @@ public class JsonAdaptedAppointmentTest {
 
     @Test
     public void toModelType_nullDatetime_throwsIllegalValueException() {
-        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(VALID_PATIENT_INDEX,
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(VALID_PATIENT_ID,
             null, VALID_PRESCRIPTIONS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LocalDateTime.class.getSimpleName());
         assertThrows(IllegalValueException.class,
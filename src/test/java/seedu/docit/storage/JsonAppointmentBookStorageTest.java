@@ -13,7 +13,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -28,11 +27,6 @@ public class JsonAppointmentBookStorageTest {
     @TempDir
     public Path testFolder;
 
-    @BeforeAll
-    public static void resetTypicalAppointments() {
-        TypicalAppointments.resetPrescriptions();
-    }
-
     @Test
     public void readAppointmentBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> readAppointmentBook(null));
@@ -0,0 +1,46 @@
+package seedu.docit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BENSON;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.docit.commons.util.JsonUtil;
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.ReadOnlyAppointmentBook;
+import seedu.docit.model.appointment.Appointment;
+import seedu.docit.model.prescription.Prescription;
+
+public class JsonArchivedAppointmentBookStorageTest {
+    private static final Path TEST_DATA_FOLDER =
+        Paths.get("src", "test", "data", "JsonArchivedAppointmentBookStorageTest");
+    private static final Path LEGACY_FILE = TEST_DATA_FOLDER.resolve("legacyArchivedAppointmentBook.json");
+
+    private static final List<Appointment> LEGACY_APPOINTMENTS = Arrays.asList(
+        new Appointment(ALICE, LocalDateTime.of(2021, 1, 1, 16, 0)),
+        new Appointment(BENSON, LocalDateTime.of(2021, 2, 1, 16, 0))
+            .withPrescription(new Prescription("panadol", "1 tablet", "3 days")));
+
+    @Test
+    public void readArchivedAppointmentBook_legacyFieldName_appointmentsRead() throws Exception {
+        ReadOnlyAppointmentBook archivedAppointmentBook = new JsonArchivedAppointmentBookStorage(LEGACY_FILE)
+            .readArchivedAppointmentBook(getTypicalAddressBook()).get();
+        assertEquals(LEGACY_APPOINTMENTS, archivedAppointmentBook.getAppointmentList());
+    }
+
+    @Test
+    public void toModelType_legacyFieldName_appointmentsRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonSerializableArchivedAppointmentBook dataFromFile =
+            JsonUtil.readJsonFile(LEGACY_FILE, JsonSerializableArchivedAppointmentBook.class).get();
+        assertEquals(LEGACY_APPOINTMENTS, dataFromFile.toModelType(addressBook).getAppointmentList());
+    }
+}
@@ -3,14 +3,22 @@ package seedu.docit.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.docit.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.docit.commons.exceptions.IllegalValueException;
+import seedu.docit.commons.util.FileUtil;
 import seedu.docit.commons.util.JsonUtil;
 import seedu.docit.model.AddressBook;
+import seedu.docit.model.patient.Patient;
+import seedu.docit.model.patient.PatientId;
 import seedu.docit.testutil.TypicalPatients;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +52,58 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPatientsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PATIENTS_FILE,
+                JsonSerializableAddressBook::readModelType).get();
+        assertEquals(TypicalPatients.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_duplicatePatients_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = new JsonFactory().createParser(DUPLICATE_PATIENT_FILE.toFile())) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_fileWithoutIds_givesPatientsTheirPositions() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PATIENTS_FILE,
+                JsonSerializableAddressBook::readModelType).get();
+        List<Patient> patients = addressBookFromFile.getPatientList();
+        for (int i = 0; i < patients.size(); i++) {
+            assertEquals(new PatientId(i), addressBookFromFile.getIdOfPatient(patients.get(i)));
+        }
+    }
+
+    @Test
+    public void toModelType_savedIds_keepsIds() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(TypicalPatients.ALICE, new PatientId(9));
+        addressBook.addPatient(TypicalPatients.BENSON, new PatientId(4));
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), JsonSerializableAddressBook.class)
+                .toModelType();
+        assertEquals(new PatientId(9), addressBookFromJson.getIdOfPatient(TypicalPatients.ALICE));
+        assertEquals(new PatientId(4), addressBookFromJson.getIdOfPatient(TypicalPatients.BENSON));
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPatient alice = new JsonAdaptedPatient(TypicalPatients.ALICE, new PatientId(1));
+        JsonAdaptedPatient benson = new JsonAdaptedPatient(TypicalPatients.BENSON, new PatientId(1));
+        JsonSerializableAddressBook dataFromJson = new JsonSerializableAddressBook(List.of(alice, benson));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT_ID,
+                dataFromJson::toModelType);
+    }
+
+    @Test
+    public void readModelType_truncatedFile_throwsIoException() throws Exception {
+        String json = FileUtil.readFromFile(TYPICAL_PATIENTS_FILE);
+        try (JsonParser parser = new JsonFactory().createParser(json.substring(0, json.length() / 2))) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
 }
@@ -7,7 +7,6 @@ import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import seedu.docit.commons.exceptions.IllegalValueException;
@@ -26,11 +25,6 @@ public class JsonSerializableAppointmentBookTest {
     private static final Path DUPLICATE_APPOINTMENT_FILE =
         TEST_DATA_FOLDER.resolve("duplicateAppointmentAppointmentBook.json");
 
-    @BeforeAll
-    public static void resetTypicalAppointments() {
-        TypicalAppointments.resetPrescriptions();
-    }
-
     @Test
     public void toModelType_typicalAppointmentsFile_success() throws Exception {
         JsonSerializableAppointmentBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_APPOINTMENTS_FILE,
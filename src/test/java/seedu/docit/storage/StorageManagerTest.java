@@ -2,6 +2,8 @@ package seedu.docit.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.docit.testutil.TypicalAppointments.A1;
+import static seedu.docit.testutil.TypicalAppointments.B1;
 import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -12,8 +14,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.docit.commons.core.GuiSettings;
 import seedu.docit.model.AddressBook;
+import seedu.docit.model.ArchivedAppointmentBook;
 import seedu.docit.model.ReadOnlyAddressBook;
+import seedu.docit.model.ReadOnlyAppointmentBook;
 import seedu.docit.model.UserPrefs;
+import seedu.docit.testutil.TypicalAppointments;
 
 public class StorageManagerTest {
 
@@ -65,6 +70,17 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void archivedAppointmentBookReadSave() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ArchivedAppointmentBook original = new ArchivedAppointmentBook();
+        original.addAppointment(A1);
+        original.addAppointment(B1);
+        storageManager.saveArchivedAppointmentBook(original, addressBook);
+        ReadOnlyAppointmentBook retrieved = storageManager.readArchivedAppointmentBook(addressBook).get();
+        assertEquals(original.getAppointmentList(), retrieved.getAppointmentList());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
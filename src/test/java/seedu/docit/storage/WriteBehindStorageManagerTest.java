@@ -0,0 +1,159 @@
+package seedu.docit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.docit.testutil.Assert.assertThrows;
+import static seedu.docit.testutil.TypicalPatients.ALICE;
+import static seedu.docit.testutil.TypicalPatients.BOB;
+import static seedu.docit.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.docit.model.AddressBook;
+import seedu.docit.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageManagerTest {
+
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+    private static final long SHORT_SAVE_DELAY_MILLIS = 10;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    @Test
+    public void addressBookReadSave() throws Exception {
+        WriteBehindStorageManager storage =
+            new WriteBehindStorageManager(new SaveCountingStorageManager(), LONG_SAVE_DELAY_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook retrieved = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestSnapshotOnce() throws Exception {
+        SaveCountingStorageManager countingStorage = new SaveCountingStorageManager();
+        WriteBehindStorageManager storage = new WriteBehindStorageManager(countingStorage, LONG_SAVE_DELAY_MILLIS);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPatient(BOB);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePatient(ALICE); // changes after the last save are not written
+        assertEquals(0, countingStorage.addressBookSaveCount);
+
+        storage.flush();
+        assertEquals(1, countingStorage.addressBookSaveCount);
+        assertEquals(expected, new AddressBook(countingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_failedWrite_throwsIoException() throws Exception {
+        WriteBehindStorageManager storage =
+            new WriteBehindStorageManager(new IoExceptionThrowingStorageManager(), LONG_SAVE_DELAY_MILLIS);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void flush_afterFailedWrite_retriesWrite() throws Exception {
+        IoExceptionThrowingStorageManager failingStorage = new IoExceptionThrowingStorageManager();
+        WriteBehindStorageManager storage = new WriteBehindStorageManager(failingStorage, LONG_SAVE_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, storage::flush);
+
+        failingStorage.isFailing = false;
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(failingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void failedWrite_noLaterSaveOrFlush_retriedAfterDelay() throws Exception {
+        IoExceptionThrowingStorageManager failingStorage = new IoExceptionThrowingStorageManager();
+        WriteBehindStorageManager storage = new WriteBehindStorageManager(failingStorage, SHORT_SAVE_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        waitUntil(() -> failingStorage.failureCount > 0);
+
+        failingStorage.isFailing = false;
+        SaveCountingStorageManager countingStorage = failingStorage;
+        waitUntil(() -> countingStorage.addressBookSaveCount > 0);
+        storage.flush(); // waits for the retried write to finish
+        assertEquals(addressBook, new AddressBook(failingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedWrite_writesLatestSnapshot() throws Exception {
+        IoExceptionThrowingStorageManager failingStorage = new IoExceptionThrowingStorageManager();
+        WriteBehindStorageManager storage = new WriteBehindStorageManager(failingStorage, LONG_SAVE_DELAY_MILLIS);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+        assertThrows(IOException.class, storage::flush);
+
+        failingStorage.isFailing = false;
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(failingStorage.readAddressBook().get()));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(SHORT_SAVE_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * A {@code StorageManager} backed by json files in the test folder that counts address book saves.
+     */
+    private class SaveCountingStorageManager extends StorageManager {
+        private volatile int addressBookSaveCount = 0;
+
+        private SaveCountingStorageManager() {
+            super(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonAppointmentBookStorage(getTempFilePath("apb")),
+                new JsonArchivedAppointmentBookStorage(getTempFilePath("aapb")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            addressBookSaveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code StorageManager} that throws an {@code IOException} when the address book is saved, until it is told to
+     * stop failing.
+     */
+    private class IoExceptionThrowingStorageManager extends SaveCountingStorageManager {
+        private volatile boolean isFailing = true;
+        private volatile int failureCount = 0;
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                failureCount++;
+                throw new IOException("dummy exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
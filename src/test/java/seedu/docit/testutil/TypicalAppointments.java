@@ -86,16 +86,4 @@ public class TypicalAppointments {
     public static List<Appointment> getTypicalArchivedAppointments() {
         return new ArrayList<>(Arrays.asList(A_PAST, B_PAST));
     }
-
-    /**
-     * Resets prescriptions on all typical upcoming appointments
-     */
-    public static void resetPrescriptions() {
-        A1.resetPrescriptions();
-        A2.resetPrescriptions();
-        B1.resetPrescriptions();
-        B2.resetPrescriptions();
-        C1.resetPrescriptions();
-        C2.resetPrescriptions();
-    }
 }
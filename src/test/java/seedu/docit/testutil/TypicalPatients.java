@@ -86,7 +86,7 @@ public class TypicalPatients {
         Patient edited = p;
         int countOfMedicalEntries = p.getMedicalHistory().size();
         for (int i = countOfMedicalEntries; i > 0; i--) {
-            edited = p.deleteMedicalHistory(Index.fromOneBased(i));
+            edited = edited.deleteMedicalHistory(Index.fromOneBased(i));
         }
         return edited;
     }
@@ -1,6 +1,11 @@
 package seedu.docit.testutil.stubs;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -87,6 +92,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Path getAppointmentBookFilePath() {
         throw new AssertionError("This method should not be called.");
@@ -177,6 +187,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Appointment> getAppointmentsBetween(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<LocalDateTime> getEarliestAppointmentDatetime() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Appointment> getFilteredAppointmentList() {
         throw new AssertionError("This method should not be called.");
@@ -197,6 +217,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startAutoArchive(Executor modelExecutor) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void stopAutoArchive() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void clearAllRecords() {
         throw new AssertionError("This method should not be called.");
@@ -216,4 +246,44 @@ public class ModelStub implements Model {
     public void editPrescription(int i, Prescription p) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void commitChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAppointmentBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getArchivedAppointmentBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -0,0 +1,118 @@
+package seedu.docit.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FxThreadListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final QueuedExecutor modelExecutor = new QueuedExecutor();
+    private final QueuedExecutor fxExecutor = new QueuedExecutor();
+
+    @Test
+    public void constructor_copiesSource() {
+        FxThreadList<String> fxThreadList = new FxThreadList<>(source, Runnable::run, fxExecutor);
+        assertEquals(List.of("a", "b", "c"), fxThreadList.getItems());
+    }
+
+    @Test
+    public void getItems_modify_throwsUnsupportedOperationException() {
+        FxThreadList<String> fxThreadList = new FxThreadList<>(source, Runnable::run, fxExecutor);
+        assertThrows(UnsupportedOperationException.class, () -> fxThreadList.getItems().add("d"));
+    }
+
+    @Test
+    public void sourceChanged_publishedOnlyAfterModelTaskAndOnFxThread() {
+        FxThreadList<String> fxThreadList = createWithQueuedModelExecutor();
+
+        source.add("d");
+        source.remove("a");
+        assertEquals(List.of("a", "b", "c"), fxThreadList.getItems());
+
+        // Both changes are copied once, and published once.
+        assertEquals(1, modelExecutor.runAll());
+        assertEquals(List.of("a", "b", "c"), fxThreadList.getItems());
+        assertEquals(1, fxExecutor.runAll());
+        assertEquals(List.of("b", "c", "d"), fxThreadList.getItems());
+    }
+
+    @Test
+    public void sourceChangedBeforePublish_latestCopyPublished() {
+        FxThreadList<String> fxThreadList = createWithQueuedModelExecutor();
+
+        source.add("d");
+        modelExecutor.runAll();
+        source.set(0, "z");
+        modelExecutor.runAll();
+
+        assertEquals(1, fxExecutor.runAll());
+        assertEquals(List.of("z", "b", "c", "d"), fxThreadList.getItems());
+    }
+
+    @Test
+    public void sourceReplaced_matchesSource() {
+        FxThreadList<String> fxThreadList = createWithQueuedModelExecutor();
+
+        source.setAll("b", "x", "y", "c");
+        modelExecutor.runAll();
+        fxExecutor.runAll();
+        assertEquals(source, fxThreadList.getItems());
+
+        source.setAll("x");
+        modelExecutor.runAll();
+        fxExecutor.runAll();
+        assertEquals(source, fxThreadList.getItems());
+
+        source.setAll();
+        modelExecutor.runAll();
+        fxExecutor.runAll();
+        assertEquals(source, fxThreadList.getItems());
+    }
+
+    private FxThreadList<String> createWithQueuedModelExecutor() {
+        // The copy is taken on creation, before the queued model executor is in use.
+        FxThreadList<String> fxThreadList = new FxThreadList<>(source, task -> {
+            if (modelExecutor.isStarted) {
+                modelExecutor.execute(task);
+            } else {
+                task.run();
+            }
+        }, fxExecutor);
+        modelExecutor.isStarted = true;
+        return fxThreadList;
+    }
+
+    /**
+     * An executor that runs its tasks only when asked to.
+     */
+    private static class QueuedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean isStarted;
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Runs the queued tasks, including those they queue, and returns the number of tasks run.
+         */
+        int runAll() {
+            int count = 0;
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+                count++;
+            }
+            return count;
+        }
+    }
+}